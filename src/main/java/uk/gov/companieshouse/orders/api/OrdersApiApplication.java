@@ -2,6 +2,7 @@ package uk.gov.companieshouse.orders.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import uk.gov.companieshouse.environment.EnvironmentReader;
 import uk.gov.companieshouse.environment.exception.EnvironmentVariableException;
 import uk.gov.companieshouse.environment.impl.EnvironmentReaderImpl;
@@ -10,6 +11,7 @@ import uk.gov.companieshouse.orders.api.environment.RequiredEnvironmentVariables
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
 
 @SpringBootApplication
+@EnableScheduling
 public class OrdersApiApplication {
     private static Logger LOGGER = LoggingUtils.getLogger();
 
@@ -0,0 +1,41 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the requests to the items and payments APIs in flight, published as the
+ * <code>orders.api.client.requests.in.flight</code> gauge.
+ * <p>
+ * The SDK clients built by {@link Api} sit on top of {@link java.net.HttpURLConnection}, whose connections are kept
+ * alive and reused through a single JVM-wide cache. The number of idle connections that cache keeps for each host is
+ * set by the <code>http.maxConnections</code> JVM option in <code>start.sh</code>, as it is read only once, when the
+ * first connection is opened. The calls made concurrently are bounded by the {@link DownstreamGuard}.
+ */
+@Component
+public class ApiConnections {
+
+    private static final String METRIC_PREFIX = "orders.api.client.requests";
+
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+
+    public ApiConnections(final MeterRegistry registry) {
+        registry.gauge(METRIC_PREFIX + ".in.flight", requestsInFlight);
+    }
+
+    /**
+     * Records the start of a request to a remote API. Must be paired with a call to {@link #release()}.
+     */
+    public void acquire() {
+        requestsInFlight.incrementAndGet();
+    }
+
+    /**
+     * Records the end of a request to a remote API.
+     */
+    public void release() {
+        requestsInFlight.decrementAndGet();
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker tracking the health of a single downstream API.
+ * <p>
+ * While <code>CLOSED</code> every call is permitted. Once the configured number of consecutive calls have failed the
+ * breaker trips to <code>OPEN</code>, and calls are refused until the open period has elapsed. The breaker then
+ * becomes <code>HALF_OPEN</code> and permits a single trial call: should it succeed the breaker closes again,
+ * otherwise it re-opens for another open period.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED(0),
+        OPEN(1),
+        HALF_OPEN(2);
+
+        private final int metricValue;
+
+        State(final int metricValue) {
+            this.metricValue = metricValue;
+        }
+
+        int getMetricValue() {
+            return metricValue;
+        }
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInProgress;
+
+    CircuitBreaker(final int failureThreshold, final Duration openDuration, final Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Circuit breaker failure threshold must be at least 1!");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Determines whether a call may be made now. A permitted call must be followed by a call to either
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     * @return whether the call is permitted
+     */
+    synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInProgress = true;
+                return true;
+            default:
+                if (trialInProgress) {
+                    return false;
+                }
+                trialInProgress = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInProgress = false;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure() {
+        trialInProgress = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
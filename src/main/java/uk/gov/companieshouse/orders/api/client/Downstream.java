@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.orders.api.client;
+
+/**
+ * The other APIs this service calls, each of which is guarded independently by the {@link DownstreamGuard}.
+ */
+public enum Downstream {
+    ITEMS("items"),
+    PAYMENTS("payments");
+
+    private final String name;
+
+    Downstream(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,149 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Protects this service from slow or failing downstream APIs. Each {@link Downstream} has its own
+ * {@link CircuitBreaker}, which fails calls fast while the API is known to be failing, and its own bulkhead, which
+ * caps the number of calls to the API in progress at any one time. A misbehaving API can therefore only ever hold up
+ * a bounded number of this service's threads, and never those calling any other API.
+ * <p>
+ * Only responses indicating a fault on the part of the downstream API (5xx statuses, connection failures and
+ * timeouts) count as failures; 4xx responses are the caller's problem and do not affect the breaker.
+ */
+@Component
+public class DownstreamGuard {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String METRIC_PREFIX = "orders.api.client";
+
+    private final Map<Downstream, Compartment> compartments = new EnumMap<>(Downstream.class);
+
+    @Autowired
+    public DownstreamGuard(
+            final @Value("${uk.gov.companieshouse.orders.api.client.circuit-breaker.failure-threshold:5}")
+                    int failureThreshold,
+            final @Value("${uk.gov.companieshouse.orders.api.client.circuit-breaker.open-millis:30000}")
+                    long openMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.client.bulkhead.max-concurrent-calls:10}")
+                    int maxConcurrentCalls,
+            final MeterRegistry registry) {
+        this(failureThreshold, Duration.ofMillis(openMillis), maxConcurrentCalls, registry, Clock.systemUTC());
+    }
+
+    DownstreamGuard(final int failureThreshold,
+                    final Duration openDuration,
+                    final int maxConcurrentCalls,
+                    final MeterRegistry registry,
+                    final Clock clock) {
+        for (final Downstream downstream : Downstream.values()) {
+            compartments.put(downstream, new Compartment(downstream,
+                    new CircuitBreaker(failureThreshold, openDuration, clock),
+                    new Semaphore(maxConcurrentCalls),
+                    registry));
+        }
+    }
+
+    /**
+     * Obtains permission to call the downstream API. Every successful call to this method must be followed by a
+     * call to {@link #exit(Downstream, Throwable)} once the call to the API has completed.
+     * @param downstream the API about to be called
+     * @throws ServiceUnavailableException should the call be refused, either because the API's circuit breaker is
+     * open or because too many calls to it are already in progress
+     */
+    public void enter(final Downstream downstream) {
+        final Compartment compartment = compartments.get(downstream);
+        if (!compartment.bulkhead.tryAcquire()) {
+            compartment.bulkheadRejections.increment();
+            logRejection("Too many calls in progress", downstream);
+            throw new ServiceUnavailableException(
+                    "Too many calls to the " + downstream.getName() + " API in progress");
+        }
+        if (!compartment.breaker.tryAcquirePermission()) {
+            compartment.bulkhead.release();
+            compartment.circuitRejections.increment();
+            logRejection("Circuit open", downstream);
+            throw new ServiceUnavailableException(
+                    "The " + downstream.getName() + " API is currently unavailable");
+        }
+    }
+
+    /**
+     * Records the outcome of a call to the downstream API, releasing the permission obtained by
+     * {@link #enter(Downstream)}.
+     * @param downstream the API called
+     * @param failure the exception the call failed with, or <code>null</code> if it succeeded
+     */
+    public void exit(final Downstream downstream, final Throwable failure) {
+        final Compartment compartment = compartments.get(downstream);
+        compartment.bulkhead.release();
+        if (isDownstreamFault(failure)) {
+            compartment.breaker.onFailure();
+        } else {
+            compartment.breaker.onSuccess();
+        }
+    }
+
+    CircuitBreaker.State getState(final Downstream downstream) {
+        return compartments.get(downstream).breaker.getState();
+    }
+
+    private static boolean isDownstreamFault(final Throwable failure) {
+        if (failure == null) {
+            return false;
+        }
+        if (failure instanceof ApiErrorResponseException) {
+            return ((ApiErrorResponseException) failure).getStatusCode() >= 500;
+        }
+        return true;
+    }
+
+    private static void logRejection(final String message, final Downstream downstream) {
+        final Map<String, Object> logMap = LoggingUtils.createLogMap();
+        logMap.put(LoggingUtils.DOWNSTREAM, downstream.getName());
+        LOGGER.error(message + ", call to downstream API refused", logMap);
+    }
+
+    /**
+     * The circuit breaker and bulkhead isolating a single downstream API.
+     */
+    private static final class Compartment {
+        private final CircuitBreaker breaker;
+        private final Semaphore bulkhead;
+        private final Counter circuitRejections;
+        private final Counter bulkheadRejections;
+
+        private Compartment(final Downstream downstream,
+                            final CircuitBreaker breaker,
+                            final Semaphore bulkhead,
+                            final MeterRegistry registry) {
+            this.breaker = breaker;
+            this.bulkhead = bulkhead;
+            final Tags tags = Tags.of("downstream", downstream.getName());
+            circuitRejections = registry.counter(METRIC_PREFIX + ".rejections", tags.and("reason", "circuit-open"));
+            bulkheadRejections = registry.counter(METRIC_PREFIX + ".rejections", tags.and("reason", "bulkhead-full"));
+            registry.gauge(METRIC_PREFIX + ".circuit.state", tags, breaker,
+                    circuitBreaker -> circuitBreaker.getState().getMetricValue());
+            registry.gauge(METRIC_PREFIX + ".bulkhead.available", tags, bulkhead, Semaphore::availablePermits);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Decides when a request to the items API that has yet to be answered should be hedged, that is, repeated in the
+ * hope that the second request is answered sooner than the first.
+ * <p>
+ * The latencies of recent responses are kept, and a request is hedged once it has been outstanding for longer than
+ * the configured percentile of them (but never sooner than the configured minimum delay). The percentile is
+ * recalculated after every few latencies recorded rather than for each request, so that requests need not wait on
+ * one another to learn the delay. So that hedging cannot
+ * by itself overload the items API, hedges are paid for out of a budget which each request adds a fraction of a
+ * hedge to: once the budget is spent, requests are not hedged until it has been replenished.
+ * <p>
+ * Hedging is disabled by default.
+ */
+@Component
+public class HedgingPolicy {
+
+    private static final String METRIC_PREFIX = "orders.api.client.hedging";
+
+    /** The fewest latencies from which a meaningful hedging delay may be drawn. */
+    private static final int MIN_SAMPLES = 20;
+
+    /** The most hedges the budget may accumulate, so that a quiet spell cannot fund a burst of hedges. */
+    private static final double MAX_BUDGET = 10.0;
+
+    /** The number of latencies recorded between recalculations of the hedging delay. */
+    static final int RECALCULATION_INTERVAL = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final Duration minDelay;
+    private final double budgetPerRequest;
+    private final long[] latencies;
+
+    private int next;
+    private int samples;
+    private int recordedSinceRecalculation;
+    private double budget;
+
+    /** The current hedging delay, or <code>null</code> until enough latencies have been recorded. */
+    private volatile Duration hedgeDelay;
+
+    private final Counter requests;
+    private final Counter issued;
+    private final Counter won;
+    private final Counter budgetExhausted;
+
+    @Autowired
+    public HedgingPolicy(
+            final @Value("${uk.gov.companieshouse.orders.api.client.hedging.enabled:false}") boolean enabled,
+            final @Value("${uk.gov.companieshouse.orders.api.client.hedging.percentile:95}") double percentile,
+            final @Value("${uk.gov.companieshouse.orders.api.client.hedging.min-delay-millis:50}") long minDelayMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.client.hedging.budget-percent:10}") double budgetPercent,
+            final @Value("${uk.gov.companieshouse.orders.api.client.hedging.latency-window:500}") int latencyWindow,
+            final MeterRegistry registry) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Hedging percentile must be greater than 0 and at most 100!");
+        }
+        if (latencyWindow < MIN_SAMPLES) {
+            throw new IllegalArgumentException("Hedging latency window must hold at least " + MIN_SAMPLES + " latencies!");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelay = Duration.ofMillis(minDelayMillis);
+        this.budgetPerRequest = budgetPercent / 100;
+        this.latencies = new long[latencyWindow];
+
+        requests = registry.counter(METRIC_PREFIX + ".requests");
+        issued = registry.counter(METRIC_PREFIX + ".hedges", "outcome", "issued");
+        won = registry.counter(METRIC_PREFIX + ".hedges", "outcome", "won");
+        budgetExhausted = registry.counter(METRIC_PREFIX + ".hedges", "outcome", "budget-exhausted");
+        registry.gauge(METRIC_PREFIX + ".delay.millis", this,
+                policy -> policy.getHedgeDelay().map(Duration::toMillis).orElse(0L));
+    }
+
+    /**
+     * Records a request about to be made, adding its share to the hedging budget.
+     * @return how long to wait for the response before hedging the request, or empty if it is not to be hedged
+     */
+    public Optional<Duration> onRequest() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        requests.increment();
+        synchronized (this) {
+            budget = Math.min(MAX_BUDGET, budget + budgetPerRequest);
+        }
+        return getHedgeDelay();
+    }
+
+    /**
+     * Obtains permission to hedge a request that has not been answered within the hedging delay.
+     * @return whether the hedge may be sent, which is only if there is budget left for it
+     */
+    public boolean tryAcquireHedge() {
+        synchronized (this) {
+            if (budget >= 1) {
+                budget -= 1;
+                issued.increment();
+                return true;
+            }
+        }
+        budgetExhausted.increment();
+        return false;
+    }
+
+    /**
+     * Records that a hedge was answered before the request it hedged.
+     */
+    public void onHedgeWon() {
+        won.increment();
+    }
+
+    /**
+     * Records how long a successful request to the items API took to be answered. Items served without a request
+     * being made, from a cache, are not to be recorded.
+     * @param latency the time taken
+     */
+    public void recordLatency(final Duration latency) {
+        final long[] window;
+        synchronized (this) {
+            latencies[next] = latency.toNanos();
+            next = (next + 1) % latencies.length;
+            samples = Math.min(samples + 1, latencies.length);
+            recordedSinceRecalculation++;
+            if (samples < MIN_SAMPLES
+                    || (hedgeDelay != null && recordedSinceRecalculation < RECALCULATION_INTERVAL)) {
+                return;
+            }
+            recordedSinceRecalculation = 0;
+            window = Arrays.copyOf(latencies, samples);
+        }
+        // Sorted outside the lock, so that other latencies may be recorded meanwhile
+        hedgeDelay = percentileOf(window);
+    }
+
+    /**
+     * Gets the current hedging delay.
+     * @return the configured percentile of the recent latencies, or empty if too few have been recorded yet
+     */
+    Optional<Duration> getHedgeDelay() {
+        return Optional.ofNullable(hedgeDelay);
+    }
+
+    private Duration percentileOf(final long[] window) {
+        Arrays.sort(window);
+        final int rank = (int) Math.ceil(percentile * window.length / 100) - 1;
+        final Duration delay = Duration.ofNanos(window[Math.max(rank, 0)]);
+        return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+    }
+}
@@ -17,7 +17,6 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 
 import uk.gov.companieshouse.api.interceptor.CRUDAuthenticationInterceptor;
 import uk.gov.companieshouse.api.util.security.Permission;
-import uk.gov.companieshouse.kafka.serialization.SerializerFactory;
 import uk.gov.companieshouse.orders.api.interceptor.LoggingInterceptor;
 import uk.gov.companieshouse.orders.api.interceptor.UserAuthenticationInterceptor;
 import uk.gov.companieshouse.orders.api.interceptor.UserAuthorisationInterceptor;
@@ -30,26 +29,32 @@ public class ApplicationConfig implements WebMvcConfigurer {
     private final UserAuthorisationInterceptor authorisationInterceptor;
     private final String healthcheckUri;
     private final String paymentDetailsUri;
+    private final String actuatorUris;
 
     public ApplicationConfig(final LoggingInterceptor loggingInterceptor,
                              final UserAuthenticationInterceptor authenticationInterceptor,
                              final UserAuthorisationInterceptor authorisationInterceptor,
                              @Value(HEALTHCHECK_URI) final String healthcheckUri,
                              @Value(PATCH_PAYMENT_DETAILS_URI)
-                             final String paymentDetailsUri) {
+                             final String paymentDetailsUri,
+                             @Value("${management.endpoints.web.base-path:/actuator}")
+                             final String actuatorBasePath) {
         this.loggingInterceptor = loggingInterceptor;
         this.authenticationInterceptor = authenticationInterceptor;
         this.authorisationInterceptor = authorisationInterceptor;
         this.healthcheckUri = healthcheckUri;
         this.paymentDetailsUri = paymentDetailsUri;
+        this.actuatorUris = actuatorBasePath + "/**";
     }
 
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
-        registry.addInterceptor(authenticationInterceptor).excludePathPatterns(healthcheckUri);
-        registry.addInterceptor(authorisationInterceptor).excludePathPatterns(healthcheckUri);
-        registry.addInterceptor(crudPermissionInterceptor()).excludePathPatterns(paymentDetailsUri, healthcheckUri);
+        // The actuator endpoints are for monitoring from within the network: they are not routed to by the gateway
+        registry.addInterceptor(authenticationInterceptor).excludePathPatterns(healthcheckUri, actuatorUris);
+        registry.addInterceptor(authorisationInterceptor).excludePathPatterns(healthcheckUri, actuatorUris);
+        registry.addInterceptor(crudPermissionInterceptor())
+                .excludePathPatterns(paymentDetailsUri, healthcheckUri, actuatorUris);
         // Different interceptor for payment details as API key traffic needs to be allowed:
         // - PATCH is always ignored since oauth2 is blocked for this function
         // - GET ignores API key requests to allow payments api to get costs but if oauth2 is used it still checks token permissions
@@ -66,11 +71,6 @@ public class ApplicationConfig implements WebMvcConfigurer {
                 .findAndRegisterModules();
     }
 
-    @Bean
-    SerializerFactory serializerFactory() {
-        return new SerializerFactory();
-    }
-
     @Bean
     CRUDAuthenticationInterceptor crudPermissionInterceptor() {
         // true allows all api key traffic through but still checks for CRUD permissions when using oauth.
@@ -1,10 +1,12 @@
 package uk.gov.companieshouse.orders.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
@@ -12,8 +14,10 @@ import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.orders.api.converter.AggregateDocumentConverters;
 import uk.gov.companieshouse.orders.api.converter.EnumToStringConverterFactory;
 import uk.gov.companieshouse.orders.api.converter.StringToEnumConverterFactory;
+import uk.gov.companieshouse.orders.api.listener.OrderItemOptionsReader;
 
 @Configuration
 public class MongoConfig {
@@ -23,20 +27,33 @@ public class MongoConfig {
      * handle inheritance. But if your domain model is simple and flat, you can remove it by overriding
      * the default MappingMongoConverter.
      * Copied from items.orders.api.ch.gov.uk
+     * <p>
+     * Where <code>uk.gov.companieshouse.orders.api.mongo.converters.enabled</code> is <code>true</code>, orders,
+     * checkouts and baskets are read and written by the hand-written {@link AggregateDocumentConverters} rather than
+     * by the reflective mapping. The {@link ObjectMapper} these use is declared by {@link ApplicationConfig}, which
+     * itself depends (through its interceptors) on the repositories, and so on this; hence it is injected lazily.
      */
 
     @Bean
-    public MappingMongoConverter mappingMongoConverter(final MongoDbFactory factory,
-                                                       final MongoMappingContext context) {
+    public MappingMongoConverter mappingMongoConverter(
+            final MongoDbFactory factory,
+            final MongoMappingContext context,
+            final @Lazy OrderItemOptionsReader reader,
+            final @Lazy ObjectMapper mapper,
+            final @Value("${uk.gov.companieshouse.orders.api.mongo.converters.enabled:false}")
+                    boolean aggregateConvertersEnabled) {
         final DbRefResolver dbRefResolver = new DefaultDbRefResolver(factory);
         final MappingMongoConverter mappingConverter = new MappingMongoConverter(dbRefResolver, context);
 
         // Don't save _class to mongo
         mappingConverter.setTypeMapper(new DefaultMongoTypeMapper(null));
 
-        final List<ConverterFactory<?, ?>> converters = new ArrayList<>();
+        final List<Object> converters = new ArrayList<>();
         converters.add(new StringToEnumConverterFactory());
         converters.add(new EnumToStringConverterFactory());
+        if (aggregateConvertersEnabled) {
+            converters.addAll(new AggregateDocumentConverters(reader, mapper).getConverters());
+        }
         mappingConverter.setCustomConversions(new MongoCustomConversions(converters));
 
         return mappingConverter;
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +23,7 @@ import uk.gov.companieshouse.orders.api.dto.PaymentDetailsDTO;
 import uk.gov.companieshouse.orders.api.exception.ConflictException;
 import uk.gov.companieshouse.orders.api.exception.ErrorType;
 import uk.gov.companieshouse.orders.api.exception.ResourceNotFoundException;
+import uk.gov.companieshouse.orders.api.exception.ServiceUnavailableException;
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
 import uk.gov.companieshouse.orders.api.mapper.BasketMapper;
 import uk.gov.companieshouse.orders.api.mapper.CheckoutToPaymentDetailsMapper;
@@ -35,7 +37,8 @@ import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
 import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.ItemCosts;
 import uk.gov.companieshouse.orders.api.model.PaymentStatus;
-import uk.gov.companieshouse.orders.api.service.ApiClientService;
+import uk.gov.companieshouse.orders.api.service.AsyncApiClientService;
+import uk.gov.companieshouse.orders.api.service.BasketItemService;
 import uk.gov.companieshouse.orders.api.service.BasketService;
 import uk.gov.companieshouse.orders.api.service.CheckoutService;
 import uk.gov.companieshouse.orders.api.service.OrderService;
@@ -50,6 +53,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
@@ -58,6 +63,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 import static uk.gov.companieshouse.orders.api.OrdersApiApplication.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.interceptor.UserAuthorisationInterceptor.AUTHORISED_RESOURCE_ATTRIBUTE;
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
 @RestController
@@ -82,16 +88,19 @@ public class BasketController {
     private static final String PAYMENT_REQUIRED_HEADER = "x-payment-required";
     @Value("${uk.gov.companieshouse.payments.api.payments}")
     private String costsLink;
+    @Value("${uk.gov.companieshouse.orders.api.basket.max-items:10}")
+    private int maxBasketItems;
 
     private final ItemMapper itemMapper;
     private final BasketMapper basketMapper;
     private final DeliveryDetailsMapper deliveryDetailsMapper;
     private final CheckoutToPaymentDetailsMapper checkoutToPaymentDetailsMapper;
     private final BasketService basketService;
+    private final BasketItemService basketItemService;
     private final CheckoutService checkoutService;
     private final CheckoutBasketValidator checkoutBasketValidator;
     private final DeliveryDetailsValidator deliveryDetailsValidator;
-    private final ApiClientService apiClientService;
+    private final AsyncApiClientService asyncApiClientService;
     private final OrderService orderService;
 
     public BasketController(final ItemMapper itemMapper,
@@ -99,9 +108,10 @@ public class BasketController {
                             final DeliveryDetailsMapper deliveryDetailsMapper,
                             final CheckoutToPaymentDetailsMapper checkoutDataMapper,
                             final BasketService basketService,
+                            final BasketItemService basketItemService,
                             final CheckoutService checkoutService,
                             final CheckoutBasketValidator checkoutBasketValidator,
-                            final ApiClientService apiClientService,
+                            final AsyncApiClientService asyncApiClientService,
                             final DeliveryDetailsValidator deliveryDetailsValidator,
                             final OrderService orderService){
         this.itemMapper = itemMapper;
@@ -109,22 +119,26 @@ public class BasketController {
         this.basketMapper = basketMapper;
         this.checkoutToPaymentDetailsMapper = checkoutDataMapper;
         this.basketService = basketService;
+        this.basketItemService = basketItemService;
         this.checkoutService = checkoutService;
         this.checkoutBasketValidator = checkoutBasketValidator;
         this.deliveryDetailsValidator = deliveryDetailsValidator;
-        this.apiClientService = apiClientService;
+        this.asyncApiClientService = asyncApiClientService;
         this.orderService = orderService;
     }
 
     @GetMapping(GET_PAYMENT_DETAILS_URI)
     public ResponseEntity<Object> getPaymentDetails(final @PathVariable(CHECKOUT_ID_PATH_VARIABLE) String checkoutId,
-                                                    final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId){
+                                                    final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId,
+                                                    final @RequestAttribute(name = AUTHORISED_RESOURCE_ATTRIBUTE,
+                                                            required = false) Checkout authorisedCheckout){
         Map<String, Object> logMap = LoggingUtils.createLogMapWithRequestId(requestId);
         logMap.put(LoggingUtils.CHECKOUT_ID, checkoutId);
         LOGGER.info("Getting payment details", logMap);
 
-        final Checkout checkout = checkoutService.getCheckoutById(checkoutId)
-                .orElseThrow(ResourceNotFoundException::new);
+        // The checkout will already have been retrieved if the user had to be shown to own it
+        final Checkout checkout = authorisedCheckout != null ? authorisedCheckout :
+                checkoutService.getCheckoutForPaymentDetails(checkoutId).orElseThrow(ResourceNotFoundException::new);
         CheckoutData checkoutData = checkout.getData();
 
         PaymentDetailsDTO paymentDetailsDTO = checkoutToPaymentDetailsMapper.checkoutToPaymentDetailsMapper(checkout);
@@ -145,11 +159,25 @@ public class BasketController {
         
         String itemUri = addToBasketRequestDTO.getItemUri();
         logMap.put(LoggingUtils.ITEM_URI, itemUri);
+
+        // Read the basket first, so that no item is retrieved for a basket that is full
+        final Optional<Basket> retrievedBasket = basketService.getBasketById(EricHeaderHelper.getIdentity(request));
+        if (retrievedBasket.isPresent() && isFull(retrievedBasket.get(), itemUri)) {
+            logMap.put(LoggingUtils.STATUS, BAD_REQUEST);
+            logMap.put(LoggingUtils.ERROR_TYPE, ErrorType.BASKET_FULL.getValue());
+            LOGGER.errorRequest(request, "Basket already holds the maximum number of items", logMap);
+            return ResponseEntity.status(BAD_REQUEST).body(new ApiError(BAD_REQUEST, ErrorType.BASKET_FULL.getValue()));
+        }
+
+        // Use header in request as header for request to item api
+        String passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+        final CompletableFuture<Item> itemRetrieval = asyncApiClientService.getItem(passthroughHeader, itemUri);
+
         Item item;
         try {
-            // Use header in request as header for request to item api
-            String passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-            item = apiClientService.getItem(passthroughHeader, itemUri);
+            item = AsyncApiClientService.await(itemRetrieval);
+        } catch (ServiceUnavailableException unavailable) {
+            throw unavailable;
         } catch (Exception exception) {
             logMap.put(LoggingUtils.EXCEPTION, exception);
             logMap.put(LoggingUtils.STATUS, BAD_REQUEST);
@@ -161,12 +189,16 @@ public class BasketController {
             LoggingUtils.logIfNotNull(logMap, LoggingUtils.COMPANY_NUMBER, item.getCompanyNumber());
         }
 
-        final Optional<Basket> retrievedBasket = basketService.getBasketById(EricHeaderHelper.getIdentity(request));
-
         Basket mappedBasket = basketMapper.addToBasketRequestDTOToBasket(addToBasketRequestDTO);
+        if(item != null) {
+            // Hold a snapshot of the item so that reading the basket need not retrieve it again
+            List<Item> items = new ArrayList<>();
+            items.add(basketItemService.snapshot(item));
+            mappedBasket.getData().setItems(items);
+        }
 
         if(retrievedBasket.isPresent()) {
-            retrievedBasket.get().getData().setItems(mappedBasket.getData().getItems());
+            addItemsToBasket(retrievedBasket.get(), mappedBasket.getData().getItems());
             basketService.saveBasket(retrievedBasket.get());
         } else {
             mappedBasket.setId(EricHeaderHelper.getIdentity(request));
@@ -209,22 +241,16 @@ public class BasketController {
             return ResponseEntity.status(HttpStatus.OK).body(basket.getData());
         }
 
-        Item item;
-        String itemUri = null;
         try {
             // Use header in request as header for request to item api
             String passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-            itemUri = basket.getData().getItems().get(0).getItemUri();
-            item = apiClientService.getItem(passthroughHeader, itemUri);
-
-            logMap.put(LoggingUtils.ITEM_URI, itemUri);
-            if(item != null) {                
-                LoggingUtils.logIfNotNull(logMap, LoggingUtils.COMPANY_NUMBER, item.getCompanyNumber());
-            }
-            List<Item> items = new ArrayList<>();
-            items.add(item);
+            logMap.put(LoggingUtils.ITEM_URI, getItemUris(basket.getData().getItems()));
+            final List<Item> items = AsyncApiClientService.await(
+                    basketItemService.getItems(basket.getId(), passthroughHeader, basket.getData().getItems()));
 
             basket.getData().setItems(items);
+        } catch (ServiceUnavailableException unavailable) {
+            throw unavailable;
         } catch (Exception exception) {
             logMap.put(LoggingUtils.EXCEPTION, exception);
             logMap.put(LoggingUtils.STATUS, BAD_REQUEST);
@@ -322,15 +348,14 @@ public class BasketController {
             }
         }
 
-        Item item;
-        String itemUri = null;
+        List<Item> items;
         try {
-            itemUri = retrievedBasket.getData().getItems().get(0).getItemUri();
-            LoggingUtils.logIfNotNull(logMap, LoggingUtils.ITEM_URI, itemUri);
-            item = apiClientService.getItem(passthroughHeader, itemUri);
-            if(item != null) {                
-                LoggingUtils.logIfNotNull(logMap, LoggingUtils.COMPANY_NUMBER, item.getCompanyNumber());
-            }
+            final List<String> itemUris = getItemUris(retrievedBasket.getData().getItems());
+            logMap.put(LoggingUtils.ITEM_URI, itemUris);
+            // Joins the retrievals of the items already made by the validator for this request
+            items = AsyncApiClientService.await(asyncApiClientService.getItems(passthroughHeader, itemUris));
+        } catch (ServiceUnavailableException unavailable) {
+            throw unavailable;
         } catch (Exception exception) {
             logMap.put(LoggingUtils.STATUS, BAD_REQUEST);
             logMap.put(LoggingUtils.EXCEPTION, exception);
@@ -338,7 +363,7 @@ public class BasketController {
             return ResponseEntity.status(BAD_REQUEST).body(new ApiError(BAD_REQUEST, "Failed to retrieve item"));
         }
 
-        Checkout checkout = checkoutService.createCheckout(item,
+        Checkout checkout = checkoutService.createCheckout(items,
                 EricHeaderHelper.getIdentity(request),
                 EricHeaderHelper.getAuthorisedUser(request),
                 retrievedBasket.getData().getDeliveryDetails());
@@ -373,7 +398,7 @@ public class BasketController {
         LoggingUtils.logIfNotNull(logMap, LoggingUtils.PAYMENT_REF, basketPaymentRequestDTO.getPaymentReference());
         LOGGER.infoRequest(request, "Patching basket payment details", logMap);
 
-        // Return checkout that is attempting to be updated
+        // Return checkout that is attempting to be updated, before any call to payments.api is made for it
         final Checkout checkout = checkoutService.getCheckoutById(id)
                 .orElseThrow(ResourceNotFoundException::new);
         final CheckoutData checkoutData = checkout.getData();
@@ -386,7 +411,10 @@ public class BasketController {
             try {
                 // Use header in request as header for request to payments.api
                 String passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-                paymentSession = apiClientService.getPaymentSummary(passthroughHeader, basketPaymentRequestDTO.getPaymentReference());
+                paymentSession = AsyncApiClientService.await(asyncApiClientService.getPaymentSummary(
+                        passthroughHeader, basketPaymentRequestDTO.getPaymentReference()));
+            } catch (ServiceUnavailableException unavailable) {
+                throw unavailable;
             } catch (Exception exception) {
                 logMap.put(LoggingUtils.EXCEPTION, exception);
                 logMap.put(LoggingUtils.STATUS, NOT_FOUND);
@@ -449,6 +477,7 @@ public class BasketController {
      * @param checkout the checkout to be updated
      * @param update the payment status update
      * @return the updated checkout
+     * @throws ConflictException should the checkout have been updated by another request since it was read
      */
     private Checkout updateCheckout(final Checkout checkout, final BasketPaymentRequestDTO update) {
         final CheckoutData data = checkout.getData();
@@ -457,7 +486,7 @@ public class BasketController {
             data.setPaidAt(update.getPaidAt());
             data.setPaymentReference(update.getPaymentReference());
         }
-        checkoutService.saveCheckout(checkout);
+        checkoutService.updatePaymentDetails(checkout);
         return checkout;
     }
 
@@ -475,6 +504,45 @@ public class BasketController {
         LOGGER.info("Process successful payment, order created and basket cleared", logMap);
     }
 
+    /**
+     * Adds the items to those already in the basket. An item already in the basket is replaced rather than added
+     * again.
+     * @param basket the basket to be added to
+     * @param items the items to add
+     */
+    private void addItemsToBasket(final Basket basket, final List<Item> items) {
+        final List<Item> basketItems = basket.getData().getItems();
+        for (final Item item : items) {
+            final int index = getItemUris(basketItems).indexOf(item.getItemUri());
+            if (index >= 0) {
+                basketItems.set(index, item);
+            } else {
+                basketItems.add(item);
+            }
+        }
+    }
+
+    /**
+     * Determines whether the basket can take no further items. Each item in a basket is retrieved again at checkout,
+     * so the basket size is capped. An item already in the basket may still be replaced.
+     * @param basket the basket to be added to
+     * @param itemUri the URI of the item to add
+     * @return whether the item would take the basket beyond the maximum number of items
+     */
+    private boolean isFull(final Basket basket, final String itemUri) {
+        final List<Item> basketItems = basket.getData().getItems();
+        return basketItems.size() >= maxBasketItems && !getItemUris(basketItems).contains(itemUri);
+    }
+
+    /**
+     * Gets the URIs of the items, in the same order.
+     * @param items the items
+     * @return the item URIs
+     */
+    private List<String> getItemUris(final List<Item> items) {
+        return items.stream().map(Item::getItemUri).collect(Collectors.toList());
+    }
+
     /**
      * Performs the calculation to work out the total to be paid for this checkout.
      * @param checkout the checkout required to calculate the total to be paid.
@@ -4,20 +4,26 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.dto.OrderHistoryDTO;
 import uk.gov.companieshouse.orders.api.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.ApiError;
 import uk.gov.companieshouse.orders.api.model.Order;
 import uk.gov.companieshouse.orders.api.model.OrderData;
 import uk.gov.companieshouse.orders.api.service.OrderService;
 
 import java.util.Map;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 import static uk.gov.companieshouse.orders.api.OrdersApiApplication.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.interceptor.UserAuthorisationInterceptor.AUTHORISED_RESOURCE_ATTRIBUTE;
 
 @RestController
 public class OrderController {
@@ -31,20 +37,64 @@ public class OrderController {
     public static final String GET_ORDER_URI =
             "${uk.gov.companieshouse.orders.api.orders}/{" + ORDER_ID_PATH_VARIABLE + "}";
 
+    public static final String USER_REQUEST_PARAMETER = "user";
+
+    /** <code>${uk.gov.companieshouse.orders.api.orders}?user={user}</code> */
+    public static final String GET_ORDER_HISTORY_URI = "${uk.gov.companieshouse.orders.api.orders}";
+
     public OrderController(OrderService orderService) {
         this.orderService = orderService;
     }
 
+    /**
+     * Gets the order.
+     * @param id the order ID
+     * @param requestId the request ID
+     * @param authorisedOrder the order, if already retrieved in establishing that the user owns it
+     * @return the order data
+     */
     @GetMapping(GET_ORDER_URI)
     public ResponseEntity<OrderData> getOrder(final @PathVariable(ORDER_ID_PATH_VARIABLE) String id,
-                                              final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
+                                              final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId,
+                                              final @RequestAttribute(name = AUTHORISED_RESOURCE_ATTRIBUTE,
+                                                      required = false) Order authorisedOrder) {
         Map<String, Object> logMap = LoggingUtils.createLogMapWithRequestId(requestId);
         LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, id);
         LOGGER.info("Retrieving order", logMap);
-        final Order orderRetrieved = orderService.getOrder(id)
+        final Order orderRetrieved = authorisedOrder != null ? authorisedOrder : orderService.getOrder(id)
                 .orElseThrow(ResourceNotFoundException::new);
         logMap.put(LoggingUtils.STATUS, HttpStatus.OK);
         LOGGER.info("Order found and returned", logMap);
         return ResponseEntity.ok().body(orderRetrieved.getData());
     }
+
+    /**
+     * Gets a page of the user's order history, most recent first. The item options of the items ordered are left out.
+     * @param userId the ID of the user whose orders are listed
+     * @param cursor the <code>next_cursor</code> of the previous page, if any
+     * @param pageSize the number of orders wanted (subject to a maximum)
+     * @param requestId the request ID
+     * @return the page of orders
+     */
+    @GetMapping(GET_ORDER_HISTORY_URI)
+    public ResponseEntity<Object> getOrderHistory(final @RequestParam(USER_REQUEST_PARAMETER) String userId,
+                                                  final @RequestParam(name = "cursor", required = false) String cursor,
+                                                  final @RequestParam(name = "page_size", defaultValue = "20")
+                                                          int pageSize,
+                                                  final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
+        Map<String, Object> logMap = LoggingUtils.createLogMapWithRequestId(requestId);
+        LoggingUtils.logIfNotNull(logMap, LoggingUtils.USER_ID, userId);
+        LOGGER.info("Retrieving order history", logMap);
+        final OrderHistoryDTO history;
+        try {
+            history = orderService.getOrderHistory(userId, cursor, pageSize);
+        } catch (IllegalArgumentException ex) {
+            logMap.put(LoggingUtils.STATUS, BAD_REQUEST);
+            LOGGER.error("Invalid order history cursor", ex, logMap);
+            return ResponseEntity.status(BAD_REQUEST).body(new ApiError(BAD_REQUEST, ex.getMessage()));
+        }
+        logMap.put(LoggingUtils.STATUS, HttpStatus.OK);
+        LOGGER.info("Order history returned", logMap);
+        return ResponseEntity.ok().body(history);
+    }
 }
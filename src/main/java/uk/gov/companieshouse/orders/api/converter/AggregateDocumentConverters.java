@@ -0,0 +1,461 @@
+package uk.gov.companieshouse.orders.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import uk.gov.companieshouse.orders.api.listener.OrderItemOptionsReader;
+import uk.gov.companieshouse.orders.api.model.AbstractLinks;
+import uk.gov.companieshouse.orders.api.model.AbstractOrder;
+import uk.gov.companieshouse.orders.api.model.AbstractOrderData;
+import uk.gov.companieshouse.orders.api.model.ActionedBy;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.BasketData;
+import uk.gov.companieshouse.orders.api.model.BasketLinks;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.CheckoutData;
+import uk.gov.companieshouse.orders.api.model.CheckoutLinks;
+import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
+import uk.gov.companieshouse.orders.api.model.Item;
+import uk.gov.companieshouse.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.orders.api.model.ItemLinks;
+import uk.gov.companieshouse.orders.api.model.ItemStatus;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OrderData;
+import uk.gov.companieshouse.orders.api.model.OrderLinks;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+import uk.gov.companieshouse.orders.api.model.ProductType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static uk.gov.companieshouse.orders.api.converter.EnumValueNameConverter.convertEnumValueJsonToName;
+import static uk.gov.companieshouse.orders.api.converter.EnumValueNameConverter.convertEnumValueNameToJson;
+
+/**
+ * Hand-written converters reading and writing {@link Order}, {@link Checkout} and {@link Basket} documents in a single
+ * pass, in place of the reflective mapping done by
+ * {@link org.springframework.data.mongodb.core.convert.MappingMongoConverter}. The documents read and written are
+ * exactly those the reflective mapping reads and writes: snake case field names, <code>is_</code> prefixes dropped
+ * from booleans, enums as lower case hyphenated names, date times in the system time zone and null fields omitted.
+ * <p>
+ * The item options of each item are read into the type of options corresponding to the kind of the item as they
+ * are read, so that the {@link uk.gov.companieshouse.orders.api.listener.MongoOrderListener} and the like are not
+ * needed when these are in use (see <code>uk.gov.companieshouse.orders.api.mongo.converters.enabled</code>).
+ */
+public class AggregateDocumentConverters {
+
+    private final OrderItemOptionsReader reader;
+    private final ObjectMapper mapper;
+
+    public AggregateDocumentConverters(final OrderItemOptionsReader reader, final ObjectMapper mapper) {
+        this.reader = reader;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Gets the converters, for registration with
+     * {@link org.springframework.data.mongodb.core.convert.MongoCustomConversions}.
+     * @return the reading and writing converters for each of the aggregates
+     */
+    public List<Converter<?, ?>> getConverters() {
+        return Arrays.asList(
+                new OrderReadingConverter(), new OrderWritingConverter(),
+                new CheckoutReadingConverter(), new CheckoutWritingConverter(),
+                new BasketReadingConverter(), new BasketWritingConverter());
+    }
+
+    @ReadingConverter
+    final class OrderReadingConverter implements Converter<Document, Order> {
+        @Override
+        public Order convert(final Document source) {
+            final Order order = new Order();
+            readOrder(source, order);
+            final Document dataDocument = source.get("data", Document.class);
+            if (dataDocument != null) {
+                final OrderData data = new OrderData();
+                readOrderData(dataDocument, data);
+                data.setOrderedAt(readDateTime(dataDocument, "ordered_at"));
+                data.setOrderedBy(
+                        readDocument(dataDocument, "ordered_by", AggregateDocumentConverters::readActionedBy));
+                data.setLinks(readDocument(dataDocument, "links", links -> readLinks(links, new OrderLinks())));
+                order.setData(data);
+            }
+            return order;
+        }
+    }
+
+    @WritingConverter
+    final class OrderWritingConverter implements Converter<Order, Document> {
+        @Override
+        public Document convert(final Order source) {
+            final Document document = writeOrder(source);
+            final OrderData data = source.getData();
+            if (data != null) {
+                final Document dataDocument = writeOrderData(data);
+                putDateTime(dataDocument, "ordered_at", data.getOrderedAt());
+                putIfNotNull(dataDocument, "ordered_by", writeActionedBy(data.getOrderedBy()));
+                putIfNotNull(dataDocument, "links", writeLinks(data.getLinks()));
+                document.put("data", dataDocument);
+            }
+            return document;
+        }
+    }
+
+    @ReadingConverter
+    final class CheckoutReadingConverter implements Converter<Document, Checkout> {
+        @Override
+        public Checkout convert(final Document source) {
+            final Checkout checkout = new Checkout();
+            readOrder(source, checkout);
+            final Document dataDocument = source.get("data", Document.class);
+            if (dataDocument != null) {
+                final CheckoutData data = new CheckoutData();
+                readOrderData(dataDocument, data);
+                data.setPaidAt(readDateTime(dataDocument, "paid_at"));
+                data.setCheckedOutBy(
+                        readDocument(dataDocument, "checked_out_by", AggregateDocumentConverters::readActionedBy));
+                data.setStatus(readEnum(dataDocument, "status", PaymentStatus.class));
+                data.setLinks(readDocument(dataDocument, "links", AggregateDocumentConverters::readCheckoutLinks));
+                checkout.setData(data);
+            }
+            return checkout;
+        }
+    }
+
+    @WritingConverter
+    final class CheckoutWritingConverter implements Converter<Checkout, Document> {
+        @Override
+        public Document convert(final Checkout source) {
+            final Document document = writeOrder(source);
+            final CheckoutData data = source.getData();
+            if (data != null) {
+                final Document dataDocument = writeOrderData(data);
+                putDateTime(dataDocument, "paid_at", data.getPaidAt());
+                putIfNotNull(dataDocument, "checked_out_by", writeActionedBy(data.getCheckedOutBy()));
+                putEnum(dataDocument, "status", data.getStatus());
+                putIfNotNull(dataDocument, "links", writeCheckoutLinks(data.getLinks()));
+                document.put("data", dataDocument);
+            }
+            return document;
+        }
+    }
+
+    @ReadingConverter
+    final class BasketReadingConverter implements Converter<Document, Basket> {
+        @Override
+        public Basket convert(final Document source) {
+            final Basket basket = new Basket();
+            basket.setId(source.getString("_id"));
+            basket.setCreatedAt(readDateTime(source, "created_at"));
+            basket.setUpdatedAt(readDateTime(source, "updated_at"));
+            final Document dataDocument = source.get("data", Document.class);
+            if (dataDocument != null) {
+                final BasketData data = new BasketData();
+                data.setDeliveryDetails(readDocument(dataDocument, "delivery_details",
+                        AggregateDocumentConverters::readDeliveryDetails));
+                data.setEtag(dataDocument.getString("etag"));
+                if (dataDocument.containsKey("items")) {
+                    data.setItems(readItems(dataDocument));
+                }
+                data.setKind(dataDocument.getString("kind"));
+                data.setLinks(readDocument(dataDocument, "links", links -> readLinks(links, new BasketLinks())));
+                data.setTotalBasketCost(dataDocument.getString("total_basket_cost"));
+                basket.setData(data);
+            }
+            return basket;
+        }
+    }
+
+    @WritingConverter
+    final class BasketWritingConverter implements Converter<Basket, Document> {
+        @Override
+        public Document convert(final Basket source) {
+            final Document document = new Document();
+            putIfNotNull(document, "_id", source.getId());
+            putDateTime(document, "created_at", source.getCreatedAt());
+            putDateTime(document, "updated_at", source.getUpdatedAt());
+            final BasketData data = source.getData();
+            if (data != null) {
+                final Document dataDocument = new Document();
+                putIfNotNull(dataDocument, "delivery_details", writeDeliveryDetails(data.getDeliveryDetails()));
+                putIfNotNull(dataDocument, "etag", data.getEtag());
+                putIfNotNull(dataDocument, "items", writeItems(data.getItems()));
+                putIfNotNull(dataDocument, "kind", data.getKind());
+                putIfNotNull(dataDocument, "links", writeLinks(data.getLinks()));
+                putIfNotNull(dataDocument, "total_basket_cost", data.getTotalBasketCost());
+                document.put("data", dataDocument);
+            }
+            return document;
+        }
+    }
+
+    private static void readOrder(final Document source, final AbstractOrder order) {
+        order.setId(source.getString("_id"));
+        order.setCreatedAt(readDateTime(source, "created_at"));
+        order.setUpdatedAt(readDateTime(source, "updated_at"));
+        order.setUserId(source.getString("user_id"));
+    }
+
+    private static Document writeOrder(final AbstractOrder order) {
+        final Document document = new Document();
+        putIfNotNull(document, "_id", order.getId());
+        putDateTime(document, "created_at", order.getCreatedAt());
+        putDateTime(document, "updated_at", order.getUpdatedAt());
+        putIfNotNull(document, "user_id", order.getUserId());
+        return document;
+    }
+
+    private void readOrderData(final Document source, final AbstractOrderData data) {
+        data.setPaymentReference(source.getString("payment_reference"));
+        data.setEtag(source.getString("etag"));
+        data.setDeliveryDetails(
+                readDocument(source, "delivery_details", AggregateDocumentConverters::readDeliveryDetails));
+        if (source.containsKey("items")) {
+            data.setItems(readItems(source));
+        }
+        data.setKind(source.getString("kind"));
+        data.setTotalOrderCost(source.getString("total_order_cost"));
+        data.setReference(source.getString("reference"));
+    }
+
+    private Document writeOrderData(final AbstractOrderData data) {
+        final Document document = new Document();
+        putIfNotNull(document, "payment_reference", data.getPaymentReference());
+        putIfNotNull(document, "etag", data.getEtag());
+        putIfNotNull(document, "delivery_details", writeDeliveryDetails(data.getDeliveryDetails()));
+        putIfNotNull(document, "items", writeItems(data.getItems()));
+        putIfNotNull(document, "kind", data.getKind());
+        putIfNotNull(document, "total_order_cost", data.getTotalOrderCost());
+        putIfNotNull(document, "reference", data.getReference());
+        return document;
+    }
+
+    private List<Item> readItems(final Document source) {
+        final List<Item> items = new ArrayList<>();
+        for (final Document itemDocument : readList(source, "items", Document.class)) {
+            items.add(readItem(itemDocument));
+        }
+        return items;
+    }
+
+    private List<Document> writeItems(final List<Item> items) {
+        if (items == null) {
+            return null;
+        }
+        final List<Document> documents = new ArrayList<>(items.size());
+        for (final Item item : items) {
+            documents.add(writeItem(item));
+        }
+        return documents;
+    }
+
+    private Item readItem(final Document source) {
+        final Item item = new Item();
+        item.setId(source.getString("id"));
+        item.setCompanyName(source.getString("company_name"));
+        item.setCompanyNumber(source.getString("company_number"));
+        item.setCustomerReference(source.getString("customer_reference"));
+        item.setDescription(source.getString("description"));
+        item.setDescriptionIdentifier(source.getString("description_identifier"));
+        final Document descriptionValues = source.get("description_values", Document.class);
+        if (descriptionValues != null) {
+            final Map<String, String> values = new LinkedHashMap<>();
+            descriptionValues.forEach((key, value) -> values.put(key, (String) value));
+            item.setDescriptionValues(values);
+        }
+        if (source.containsKey("item_costs")) {
+            final List<ItemCosts> costs = new ArrayList<>();
+            for (final Document costsDocument : readList(source, "item_costs", Document.class)) {
+                costs.add(new ItemCosts(costsDocument.getString("discount_applied"),
+                        costsDocument.getString("item_cost"),
+                        costsDocument.getString("calculated_cost"),
+                        readEnum(costsDocument, "product_type", ProductType.class)));
+            }
+            item.setItemCosts(costs);
+        }
+        item.setKind(source.getString("kind"));
+        final Document optionsDocument = source.get("item_options", Document.class);
+        if (optionsDocument != null) {
+            item.setItemOptions(reader.readItemOptions(optionsDocument, item.getKind()));
+        }
+        item.setEtag(source.getString("etag"));
+        item.setLinks(readDocument(source, "links", links -> readLinks(links, new ItemLinks())));
+        item.setPostalDelivery(source.getBoolean("postal_delivery"));
+        final Number quantity = source.get("quantity", Number.class);
+        item.setQuantity(quantity != null ? quantity.intValue() : null);
+        item.setItemUri(source.getString("item_uri"));
+        item.setSatisfiedAt(readDateTime(source, "satisfied_at"));
+        item.setStatus(readEnum(source, "status", ItemStatus.class));
+        item.setPostageCost(source.getString("postage_cost"));
+        item.setTotalItemCost(source.getString("total_item_cost"));
+        item.setFetchedAt(readDateTime(source, "fetched_at"));
+        return item;
+    }
+
+    private Document writeItem(final Item item) {
+        final Document document = new Document();
+        putIfNotNull(document, "id", item.getId());
+        putIfNotNull(document, "company_name", item.getCompanyName());
+        putIfNotNull(document, "company_number", item.getCompanyNumber());
+        putIfNotNull(document, "customer_reference", item.getCustomerReference());
+        putIfNotNull(document, "description", item.getDescription());
+        putIfNotNull(document, "description_identifier", item.getDescriptionIdentifier());
+        if (item.getDescriptionValues() != null) {
+            document.put("description_values", new Document(new LinkedHashMap<>(item.getDescriptionValues())));
+        }
+        if (item.getItemCosts() != null) {
+            final List<Document> costs = new ArrayList<>(item.getItemCosts().size());
+            for (final ItemCosts itemCosts : item.getItemCosts()) {
+                final Document costsDocument = new Document();
+                putIfNotNull(costsDocument, "discount_applied", itemCosts.getDiscountApplied());
+                putIfNotNull(costsDocument, "item_cost", itemCosts.getItemCost());
+                putIfNotNull(costsDocument, "calculated_cost", itemCosts.getCalculatedCost());
+                putEnum(costsDocument, "product_type", itemCosts.getProductType());
+                costs.add(costsDocument);
+            }
+            document.put("item_costs", costs);
+        }
+        if (item.getItemOptions() != null) {
+            document.put("item_options", mapper.convertValue(item.getItemOptions(), Document.class));
+        }
+        putIfNotNull(document, "etag", item.getEtag());
+        putIfNotNull(document, "kind", item.getKind());
+        putIfNotNull(document, "links", writeLinks(item.getLinks()));
+        putIfNotNull(document, "postal_delivery", item.isPostalDelivery());
+        putIfNotNull(document, "quantity", item.getQuantity());
+        putIfNotNull(document, "item_uri", item.getItemUri());
+        putDateTime(document, "satisfied_at", item.getSatisfiedAt());
+        putEnum(document, "status", item.getStatus());
+        putIfNotNull(document, "postage_cost", item.getPostageCost());
+        putIfNotNull(document, "total_item_cost", item.getTotalItemCost());
+        putDateTime(document, "fetched_at", item.getFetchedAt());
+        return document;
+    }
+
+    private static DeliveryDetails readDeliveryDetails(final Document source) {
+        final DeliveryDetails details = new DeliveryDetails();
+        details.setAddressLine1(source.getString("address_line_1"));
+        details.setAddressLine2(source.getString("address_line_2"));
+        details.setCountry(source.getString("country"));
+        details.setForename(source.getString("forename"));
+        details.setLocality(source.getString("locality"));
+        details.setPoBox(source.getString("po_box"));
+        details.setPostalCode(source.getString("postal_code"));
+        details.setRegion(source.getString("region"));
+        details.setSurname(source.getString("surname"));
+        return details;
+    }
+
+    private static Document writeDeliveryDetails(final DeliveryDetails details) {
+        if (details == null) {
+            return null;
+        }
+        final Document document = new Document();
+        putIfNotNull(document, "address_line_1", details.getAddressLine1());
+        putIfNotNull(document, "address_line_2", details.getAddressLine2());
+        putIfNotNull(document, "country", details.getCountry());
+        putIfNotNull(document, "forename", details.getForename());
+        putIfNotNull(document, "locality", details.getLocality());
+        putIfNotNull(document, "po_box", details.getPoBox());
+        putIfNotNull(document, "postal_code", details.getPostalCode());
+        putIfNotNull(document, "region", details.getRegion());
+        putIfNotNull(document, "surname", details.getSurname());
+        return document;
+    }
+
+    private static ActionedBy readActionedBy(final Document source) {
+        final ActionedBy actionedBy = new ActionedBy();
+        actionedBy.setEmail(source.getString("email"));
+        actionedBy.setId(source.getString("id"));
+        return actionedBy;
+    }
+
+    private static Document writeActionedBy(final ActionedBy actionedBy) {
+        if (actionedBy == null) {
+            return null;
+        }
+        final Document document = new Document();
+        putIfNotNull(document, "email", actionedBy.getEmail());
+        putIfNotNull(document, "id", actionedBy.getId());
+        return document;
+    }
+
+    private static <L extends AbstractLinks> L readLinks(final Document source, final L links) {
+        links.setSelf(source.getString("self"));
+        return links;
+    }
+
+    private static Document writeLinks(final AbstractLinks links) {
+        if (links == null) {
+            return null;
+        }
+        final Document document = new Document();
+        putIfNotNull(document, "self", links.getSelf());
+        return document;
+    }
+
+    private static CheckoutLinks readCheckoutLinks(final Document source) {
+        final CheckoutLinks links = readLinks(source, new CheckoutLinks());
+        links.setPayment(source.getString("payment"));
+        links.setResource(source.getString("resource"));
+        return links;
+    }
+
+    private static Document writeCheckoutLinks(final CheckoutLinks links) {
+        final Document document = writeLinks(links);
+        if (document != null) {
+            putIfNotNull(document, "payment", links.getPayment());
+            putIfNotNull(document, "resource", links.getResource());
+        }
+        return document;
+    }
+
+    private static <T> T readDocument(final Document source,
+                                      final String key,
+                                      final Function<Document, T> read) {
+        final Document document = source.get(key, Document.class);
+        return document != null ? read.apply(document) : null;
+    }
+
+    @SuppressWarnings("unchecked") // Java language limitation (type erasure)
+    private static <T> List<T> readList(final Document source, final String key, final Class<T> elementType) {
+        return (List<T>) source.get(key, List.class);
+    }
+
+    private static LocalDateTime readDateTime(final Document source, final String key) {
+        final Date date = source.getDate(key);
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+
+    private static void putDateTime(final Document target, final String key, final LocalDateTime value) {
+        if (value != null) {
+            target.put(key, Date.from(value.atZone(ZoneId.systemDefault()).toInstant()));
+        }
+    }
+
+    private static <E extends Enum<E>> E readEnum(final Document source, final String key, final Class<E> enumType) {
+        final String value = source.getString(key);
+        return value != null ? Enum.valueOf(enumType, convertEnumValueJsonToName(value)) : null;
+    }
+
+    private static void putEnum(final Document target, final String key, final Enum<?> value) {
+        if (value != null) {
+            target.put(key, convertEnumValueNameToJson(value));
+        }
+    }
+
+    private static void putIfNotNull(final Document target, final String key, final Object value) {
+        if (value != null) {
+            target.put(key, value);
+        }
+    }
+}
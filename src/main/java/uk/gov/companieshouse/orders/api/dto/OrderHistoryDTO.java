@@ -0,0 +1,35 @@
+package uk.gov.companieshouse.orders.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import uk.gov.companieshouse.orders.api.model.OrderData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of a user's orders, most recent first. The item options of the items ordered are not included.
+ */
+public class OrderHistoryDTO {
+    @JsonProperty("items")
+    private List<OrderData> items = new ArrayList<>();
+
+    /** Identifies the next page of orders, if there is one. */
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    public List<OrderData> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderData> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.orders.api.exception;
 public enum ErrorType {
     BASKET_ITEMS_MISSING("Basket is empty"),
     BASKET_ITEM_INVALID("Failed to retrieve item"),
+    BASKET_FULL("Basket is full"),
     DELIVERY_DETAILS_MISSING("Delivery details missing for postal delivery");
 
     private String value;
@@ -0,0 +1,13 @@
+package uk.gov.companieshouse.orders.api.exception;
+
+/**
+ * Raised when a call to another API is refused without being attempted, because that API is known to be failing or
+ * is already handling as many calls from this service as it is allowed.
+ */
+public class ServiceUnavailableException extends ServiceException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+}
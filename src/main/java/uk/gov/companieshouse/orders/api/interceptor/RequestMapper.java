@@ -13,6 +13,7 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static uk.gov.companieshouse.orders.api.controller.BasketController.*;
+import static uk.gov.companieshouse.orders.api.controller.OrderController.GET_ORDER_HISTORY_URI;
 import static uk.gov.companieshouse.orders.api.controller.OrderController.GET_ORDER_URI;
 
 @Service
@@ -24,12 +25,14 @@ public class RequestMapper implements InitializingBean {
     static final String BASKET = "basket";
     static final String PATCH_PAYMENT_DETAILS = "patchPaymentDetails";
     static final String GET_ORDER = "getOrder";
+    static final String GET_ORDER_HISTORY = "getOrderHistory";
 
     private final String addItemUri;
     private final String checkoutBasketUri;
     private final String basketUri;
     private final String getPaymentDetailsUri;
     private final String getOrderUri;
+    private final String getOrderHistoryUri;
     private final String patchPaymentDetailsUri;
 
     /**
@@ -49,13 +52,16 @@ public class RequestMapper implements InitializingBean {
             @Value(GET_ORDER_URI)
             final String getOrderUri,
             @Value(PATCH_PAYMENT_DETAILS_URI)
-            final String patchPaymentDetailsUri) {
+            final String patchPaymentDetailsUri,
+            @Value(GET_ORDER_HISTORY_URI)
+            final String getOrderHistoryUri) {
         this.addItemUri = addItemUri;
         this.checkoutBasketUri = checkoutBasketUri;
         this.basketUri = basketUri;
         this.getPaymentDetailsUri = getPaymentDetailsUri;
         this.getOrderUri = getOrderUri;
         this.patchPaymentDetailsUri = patchPaymentDetailsUri;
+        this.getOrderHistoryUri = getOrderHistoryUri;
     }
 
     /**
@@ -110,9 +116,15 @@ public class RequestMapper implements InitializingBean {
                         new PatternsRequestCondition(getOrderUri),
                         new RequestMethodsRequestCondition(RequestMethod.GET),
                         null, null, null, null, null);
+        final RequestMappingInfo getOrderHistory =
+                new RequestMappingInfo(GET_ORDER_HISTORY,
+                        new PatternsRequestCondition(getOrderHistoryUri),
+                        new RequestMethodsRequestCondition(RequestMethod.GET),
+                        null, null, null, null, null);
 
         knownRequests = asList(
-                addItem, checkoutBasket, getPaymentDetails, getBasket, patchBasket, patchPaymentDetails, getOrder
+                addItem, checkoutBasket, getPaymentDetails, getBasket, patchBasket, patchPaymentDetails, getOrder,
+                getOrderHistory
         );
 
     }
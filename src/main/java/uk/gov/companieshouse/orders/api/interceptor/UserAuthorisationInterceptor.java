@@ -24,6 +24,7 @@ import static org.springframework.web.servlet.HandlerMapping.URI_TEMPLATE_VARIAB
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 import static uk.gov.companieshouse.orders.api.controller.BasketController.CHECKOUT_ID_PATH_VARIABLE;
 import static uk.gov.companieshouse.orders.api.controller.OrderController.ORDER_ID_PATH_VARIABLE;
+import static uk.gov.companieshouse.orders.api.controller.OrderController.USER_REQUEST_PARAMETER;
 import static uk.gov.companieshouse.orders.api.interceptor.RequestMapper.*;
 import static uk.gov.companieshouse.orders.api.util.EricHeaderHelper.API_KEY_IDENTITY_TYPE;
 
@@ -34,6 +35,12 @@ public class UserAuthorisationInterceptor extends HandlerInterceptorAdapter {
 
     private static final String PATH_VARIABLES_ERROR = "No URI template path variables found in the request!";
 
+    /**
+     * The name of the request attribute under which the resource retrieved to establish that the user owns it is
+     * made available to the handler of the request, which can then avoid retrieving it again.
+     */
+    public static final String AUTHORISED_RESOURCE_ATTRIBUTE = "authorisedResource";
+
     private final RequestMapper requestMapper;
     private final CheckoutRepository checkoutRepository;
     private final OrderRepository orderRepository;
@@ -61,6 +68,8 @@ public class UserAuthorisationInterceptor extends HandlerInterceptorAdapter {
                     return getRequestClientIsAuthorised(request, response, this::getPaymentDetailsUserIsResourceOwner);
                 case GET_ORDER:
                     return getRequestClientIsAuthorised(request, response, this::getOrderUserIsResourceOwner);
+                case GET_ORDER_HISTORY:
+                    return getRequestClientIsAuthorised(request, response, this::getOrderHistoryUserIsOwner);
                 case PATCH_PAYMENT_DETAILS:
                     return clientIsAuthorisedInternalApi(request, response);
                 default:
@@ -120,9 +129,30 @@ public class UserAuthorisationInterceptor extends HandlerInterceptorAdapter {
         return getRequestUserIsResourceOwner(request, response, ORDER_ID_PATH_VARIABLE, this::retrieveOrder);
     }
 
+    /**
+     * Inspects ERIC populated headers to determine whether the request comes from the user whose order history the
+     * get order history request attempts to access.
+     * @param request the request checked
+     * @param response the response, updated by this should the request be found to be unauthorised
+     * @return whether the request is authorised (<code>true</code>), or not (<code>false</code>)
+     */
+    private boolean getOrderHistoryUserIsOwner(final HttpServletRequest request,
+                                               final HttpServletResponse response) {
+        final String requestUserId = EricHeaderHelper.getIdentity(request);
+        if (requestUserId.equals(request.getParameter(USER_REQUEST_PARAMETER))) {
+            LOGGER.infoRequest(request, "UserAuthorisationInterceptor: user is order history owner", null);
+            return true;
+        } else {
+            LOGGER.infoRequest(request, "UserAuthorisationInterceptor: user is not order history owner", null);
+            response.setStatus(UNAUTHORIZED.value());
+            return false;
+        }
+    }
+
     /**
      * Inspects ERIC populated headers to determine whether the request comes from a user who is the owner of the
-     * checkout resource the get payment details request attempts to access.
+     * resource the request attempts to access. If so, the resource is stored in the
+     * {@link #AUTHORISED_RESOURCE_ATTRIBUTE} request attribute for use by the handler of the request.
      * @param request the request checked
      * @param response the response, updated by this should the request be found to be unauthorised
      * @param resourceIdPathVariable the name of the resource ID Spring path variable
@@ -138,6 +168,7 @@ public class UserAuthorisationInterceptor extends HandlerInterceptorAdapter {
         final AbstractOrder order = findById.apply(orderId);
         if (requestUserId.equals(order.getUserId())) {
             LOGGER.infoRequest(request, "UserAuthorisationInterceptor: user is resource owner", null);
+            request.setAttribute(AUTHORISED_RESOURCE_ATTRIBUTE, order);
             return true;
         } else {
             LOGGER.infoRequest(request, "UserAuthorisationInterceptor: user is not resource owner", null);
@@ -164,21 +195,21 @@ public class UserAuthorisationInterceptor extends HandlerInterceptorAdapter {
     }
 
     /**
-     * Retrieves the checkout identified by the ID from the checkout repository.
+     * Retrieves the checkout identified by the ID from the checkout repository, for its payment details.
      * @param checkoutId the checkout ID
      * @return the checkout
      */
     private AbstractOrder retrieveCheckout(final String checkoutId) {
-        return checkoutRepository.findById(checkoutId).orElseThrow(ResourceNotFoundException::new);
+        return checkoutRepository.findByIdForPaymentDetails(checkoutId).orElseThrow(ResourceNotFoundException::new);
     }
 
     /**
-     * Retrieves the order identified by the ID from the order repository.
+     * Retrieves the order identified by the ID from the order repository, for presentation.
      * @param orderId the order ID
      * @return the order
      */
     private AbstractOrder retrieveOrder(final String orderId) {
-        return orderRepository.findById(orderId).orElseThrow(ResourceNotFoundException::new);
+        return orderRepository.findByIdForLookup(orderId).orElseThrow(ResourceNotFoundException::new);
     }
 
     /**
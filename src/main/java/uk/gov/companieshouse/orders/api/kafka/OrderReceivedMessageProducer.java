@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.orders.api.kafka;
 
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.kafka.message.Message;
 import uk.gov.companieshouse.logging.Logger;
@@ -10,6 +11,8 @@ import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
@@ -25,32 +28,48 @@ public class OrderReceivedMessageProducer {
     }
 
     /**
-     * Sends order-received message to CHKafkaProducer
+     * Sends order-received message to Kafka, without waiting for it to be acknowledged
      * @param orderId order id
      * @param orderReceived order-received object
+     * @return the future metadata of the record sent, failing with a {@link KafkaMessagingException} should the
+     * message not be sent
+     * @throws KafkaMessagingException should the message not be created
      */
-    public void sendMessage(final String orderId, final OrderReceived orderReceived) {
+    public CompletableFuture<RecordMetadata> sendMessage(final String orderId, final OrderReceived orderReceived) {
         Map<String, Object> logMap = LoggingUtils.createLogMap();
         LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, orderId);
 
         LOGGER.info("Sending message to kafka producer", logMap);
+        final Message message;
         try {
-            Message message = ordersAvroSerializer.createMessage(orderReceived);
-            ordersKafkaProducer.sendMessage(orderId, message, recordMetadata -> {
-                long offset = recordMetadata.offset();
-                String topic = message.getTopic();
-                Map<String, Object> logMapCallback = new HashMap<>();
-                logMapCallback.put(LoggingUtils.TOPIC, topic);
-                logMapCallback.put(LoggingUtils.ORDER_ID, orderId);
-                logMapCallback.put(LoggingUtils.OFFSET, offset);
-                LoggerFactory.getLogger(APPLICATION_NAMESPACE).info("Message sent to Kafka topic", logMapCallback);
-            });
+            message = ordersAvroSerializer.createMessage(orderReceived);
         } catch (Exception e) {
-            final String errorMessage
-                    = String.format("Kafka 'order-received' message could not be sent for order - %s", orderId);
-            logMap.put(LoggingUtils.EXCEPTION, e);
-            LOGGER.error(errorMessage, logMap);
-            throw new KafkaMessagingException(errorMessage, e);
+            throw messageNotSent(orderId, e, logMap);
         }
+        return ordersKafkaProducer.sendMessage(orderId, message, recordMetadata -> {
+            long offset = recordMetadata.offset();
+            String topic = message.getTopic();
+            Map<String, Object> logMapCallback = new HashMap<>();
+            logMapCallback.put(LoggingUtils.TOPIC, topic);
+            logMapCallback.put(LoggingUtils.ORDER_ID, orderId);
+            logMapCallback.put(LoggingUtils.OFFSET, offset);
+            LoggerFactory.getLogger(APPLICATION_NAMESPACE).info("Message sent to Kafka topic", logMapCallback);
+        }).handle((recordMetadata, failure) -> {
+            if (failure != null) {
+                throw messageNotSent(orderId,
+                        failure instanceof CompletionException ? failure.getCause() : failure, logMap);
+            }
+            return recordMetadata;
+        });
+    }
+
+    private static KafkaMessagingException messageNotSent(final String orderId,
+                                                          final Throwable cause,
+                                                          final Map<String, Object> logMap) {
+        final String errorMessage
+                = String.format("Kafka 'order-received' message could not be sent for order - %s", orderId);
+        logMap.put(LoggingUtils.EXCEPTION, cause);
+        LOGGER.error(errorMessage, logMap);
+        return new KafkaMessagingException(errorMessage, cause);
     }
 }
@@ -0,0 +1,304 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.OrderReceived;
+import uk.gov.companieshouse.orders.api.exception.KafkaMessagingException;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+import uk.gov.companieshouse.orders.api.model.OutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Periodically publishes the order-received notifications pending in the outbox to Kafka, in batches, and marks each
+ * sent once Kafka has acknowledged it. All of the notifications in a batch are sent before any acknowledgement is
+ * waited for. One that fails to be sent is retried after a delay that doubles with each failure, up to a maximum.
+ * <p>
+ * As the outbox record is written before its order, a record is only published once its order is found to exist. One
+ * whose order is not yet found is passed over for a while, and one whose order has still not been created a while
+ * after it was recorded is taken to be left over from a failed order creation, and discarded. Before it is sent, each record is claimed by pushing back its next attempt, so that other
+ * instances of the relay pass it over while it is being sent. The relay waits for the outcome of the sends no longer
+ * than the claim lasts: one still outstanding when the claim runs out is scheduled for a retry, as another instance may
+ * by then have claimed it again. Notifications are published at least once: should an
+ * instance stop between sending a notification and marking it sent, it will be sent again.
+ * <p>
+ * Notifications that cannot be sent while Kafka is unavailable simply accumulate in the outbox, to be sent once it
+ * is available again; those sent are swept from the outbox after a while by the
+ * {@link uk.gov.companieshouse.orders.api.repository.RetentionSweeper}. The depth of the backlog, and the age of the
+ * oldest notification in it, are refreshed after each run of the relay and published as the
+ * <code>orders.api.outbox.pending</code> and <code>orders.api.outbox.oldest.pending.age.seconds</code> gauges.
+ */
+@Component
+public class OrderReceivedOutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String STATUS = "status";
+    private static final String NEXT_ATTEMPT_AT = "next_attempt_at";
+    private static final String CREATED_AT = "created_at";
+
+    private static final String METRIC_PREFIX = "orders.api.outbox";
+
+    private final MongoTemplate mongoTemplate;
+    private final OrderReceivedMessageProducer producer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration orphanGracePeriod;
+    private final Duration claimDuration;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OrderReceivedOutboxRelay(
+            final MongoTemplate mongoTemplate,
+            final OrderReceivedMessageProducer producer,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.enabled:true}") boolean enabled,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.batch-size:100}") int batchSize,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.retry-delay-millis:1000}")
+                    long retryDelayMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.max-retry-delay-millis:300000}")
+                    long maxRetryDelayMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.orphan-grace-minutes:10}")
+                    long orphanGraceMinutes,
+            final @Value("${uk.gov.companieshouse.orders.api.outbox.relay.claim-millis:60000}") long claimMillis,
+            final MeterRegistry registry) {
+        this.mongoTemplate = mongoTemplate;
+        this.producer = producer;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
+        this.maxRetryDelay = Duration.ofMillis(maxRetryDelayMillis);
+        this.orphanGracePeriod = Duration.ofMinutes(orphanGraceMinutes);
+        this.claimDuration = Duration.ofMillis(claimMillis);
+
+        registry.gauge(METRIC_PREFIX + ".pending", pending);
+        registry.gauge(METRIC_PREFIX + ".oldest.pending.age.seconds", oldestPendingAgeSeconds);
+    }
+
+    /**
+     * Relays the pending notifications due, and refreshes the backlog metrics, unless the relay is disabled.
+     */
+    @Scheduled(initialDelayString = "${uk.gov.companieshouse.orders.api.outbox.relay.interval-millis:1000}",
+            fixedDelayString = "${uk.gov.companieshouse.orders.api.outbox.relay.interval-millis:1000}")
+    public void onSchedule() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int sent;
+            do {
+                sent = relay();
+            } while (sent == batchSize);
+            refreshBacklogMetrics();
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to relay order-received notifications.", ex, LoggingUtils.createLogMap());
+        }
+    }
+
+    /**
+     * Publishes a batch of the pending notifications due to Kafka.
+     * @return the number of notifications sent
+     */
+    int relay() {
+        final LocalDateTime now = LocalDateTime.now();
+        // Taken before any record is claimed, so that no claim outlasts it
+        final long claimsExpireAt = System.nanoTime() + claimDuration.toNanos();
+        final Query due = new Query(where(STATUS).is(OutboxStatus.PENDING.getJsonName()).and(NEXT_ATTEMPT_AT).lte(now))
+                .with(Sort.by(NEXT_ATTEMPT_AT))
+                .limit(batchSize);
+        final List<OutboxRecord> batch = mongoTemplate.find(due, OutboxRecord.class);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        final Set<String> ordered = findOrdered(batch);
+        final Map<OutboxRecord, CompletableFuture<RecordMetadata>> sends = new LinkedHashMap<>();
+        for (final OutboxRecord record : batch) {
+            if (!ordered.contains(record.getId())) {
+                deferOrDiscard(record, now);
+            } else if (claim(record, now)) {
+                sends.put(record, send(record));
+            }
+        }
+        int sent = 0;
+        for (final Map.Entry<OutboxRecord, CompletableFuture<RecordMetadata>> send : sends.entrySet()) {
+            if (isSent(send.getKey(), send.getValue(), claimsExpireAt)) {
+                markSent(send.getKey());
+                sent++;
+            } else {
+                scheduleRetry(send.getKey(), now);
+            }
+        }
+        LOGGER.info("Relayed " + sent + " of " + batch.size() + " order-received notifications due.",
+                LoggingUtils.createLogMap());
+        return sent;
+    }
+
+    /**
+     * Counts the notifications pending, and finds the age of the oldest of them, both by way of indexes on the
+     * status.
+     */
+    private void refreshBacklogMetrics() {
+        final Query allPending = new Query(where(STATUS).is(OutboxStatus.PENDING.getJsonName()));
+        pending.set(mongoTemplate.count(allPending, OutboxRecord.class));
+
+        final Query oldestPending = new Query(where(STATUS).is(OutboxStatus.PENDING.getJsonName()))
+                .with(Sort.by(CREATED_AT))
+                .limit(1);
+        oldestPending.fields().include(CREATED_AT);
+        final OutboxRecord oldest = mongoTemplate.findOne(oldestPending, OutboxRecord.class);
+        oldestPendingAgeSeconds.set(oldest == null ? 0 :
+                Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).getSeconds());
+    }
+
+    /**
+     * Gets the IDs of those of the records' orders that exist, fetching their IDs alone.
+     * @param records the outbox records
+     * @return the IDs of the orders found
+     */
+    private Set<String> findOrdered(final List<OutboxRecord> records) {
+        final List<String> ids = records.stream().map(OutboxRecord::getId).collect(Collectors.toList());
+        final Query query = new Query(where("_id").in(ids));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Order.class)).stream()
+                .map(document -> document.getString("_id"))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Discards the record, should its order still not have been created once the grace period is over. Until then, its
+     * next attempt is pushed back by as long again as the record has existed, so that records awaiting their orders,
+     * such as those left by a burst of failed order creations, cannot fill every batch and hold up the rest.
+     * @param record the record whose order was not found
+     * @param now the time now
+     */
+    private void deferOrDiscard(final OutboxRecord record, final LocalDateTime now) {
+        final LocalDateTime discardableAt = record.getCreatedAt().plus(orphanGracePeriod);
+        if (discardableAt.isAfter(now)) {
+            final Duration age = Duration.between(record.getCreatedAt(), now);
+            final LocalDateTime deferredTo = now.plus(age.compareTo(retryDelay) > 0 ? age : retryDelay);
+            // Conditional, as for a claim, so that a claim made by another instance that found the order stands
+            final Query unclaimed = new Query(where("_id").is(record.getId())
+                    .and(STATUS).is(OutboxStatus.PENDING.getJsonName())
+                    .and(NEXT_ATTEMPT_AT).is(record.getNextAttemptAt()));
+            final Update update = new Update()
+                    .set(NEXT_ATTEMPT_AT, deferredTo.isBefore(discardableAt) ? deferredTo : discardableAt);
+            mongoTemplate.updateFirst(unclaimed, update, OutboxRecord.class);
+            return;
+        }
+        final Query stillPending =
+                new Query(where("_id").is(record.getId()).and(STATUS).is(OutboxStatus.PENDING.getJsonName()));
+        mongoTemplate.remove(stillPending, OutboxRecord.class);
+        final Map<String, Object> logMap = LoggingUtils.createLogMap();
+        LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, record.getId());
+        LOGGER.info("Discarded order-received notification for order that was never created.", logMap);
+    }
+
+    /**
+     * Claims the record for this instance by pushing back its next attempt, provided no other instance has done so
+     * since it was read.
+     * @param record the record as read
+     * @param now the time now
+     * @return whether the record was claimed (<code>true</code>), or not (<code>false</code>)
+     */
+    private boolean claim(final OutboxRecord record, final LocalDateTime now) {
+        final Query unclaimed = new Query(where("_id").is(record.getId())
+                .and(STATUS).is(OutboxStatus.PENDING.getJsonName())
+                .and(NEXT_ATTEMPT_AT).is(record.getNextAttemptAt()));
+        final Update update = new Update().set(NEXT_ATTEMPT_AT, now.plus(claimDuration));
+        return mongoTemplate.updateFirst(unclaimed, update, OutboxRecord.class).getModifiedCount() == 1;
+    }
+
+    private CompletableFuture<RecordMetadata> send(final OutboxRecord record) {
+        final OrderReceived orderReceived = new OrderReceived();
+        orderReceived.setOrderUri(record.getOrderUri());
+        try {
+            return producer.sendMessage(record.getId(), orderReceived);
+        } catch (KafkaMessagingException ex) {
+            final CompletableFuture<RecordMetadata> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+    }
+
+    /**
+     * Waits for the outcome of the send, until the claim on its record expires at the latest.
+     * @param record the record sent
+     * @param send the future outcome of the send
+     * @param claimExpiresAt the {@link System#nanoTime()} at which the claim on the record expires
+     * @return whether the notification was sent (<code>true</code>), or not (<code>false</code>)
+     */
+    private static boolean isSent(final OutboxRecord record,
+                                  final CompletableFuture<RecordMetadata> send,
+                                  final long claimExpiresAt) {
+        try {
+            send.get(Math.max(claimExpiresAt - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException ex) {
+            // Already logged by the producer
+            return false;
+        } catch (TimeoutException ex) {
+            final Map<String, Object> logMap = LoggingUtils.createLogMap();
+            LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, record.getId());
+            LOGGER.error("Timed out waiting for order-received notification to be sent; will retry.", logMap);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void markSent(final OutboxRecord record) {
+        final Update update = new Update()
+                .set(STATUS, OutboxStatus.SENT.getJsonName())
+                .set("sent_at", LocalDateTime.now())
+                .inc("attempts", 1);
+        mongoTemplate.updateFirst(new Query(where("_id").is(record.getId())), update, OutboxRecord.class);
+    }
+
+    private void scheduleRetry(final OutboxRecord record, final LocalDateTime now) {
+        final int attempts = record.getAttempts() + 1;
+        final Update update = new Update()
+                .set(NEXT_ATTEMPT_AT, now.plus(retryDelay(attempts)))
+                .set("attempts", attempts);
+        mongoTemplate.updateFirst(new Query(where("_id").is(record.getId())), update, OutboxRecord.class);
+    }
+
+    /**
+     * Gets the delay before the next attempt to send a notification, doubling with each failed attempt.
+     * @param attempts the number of failed attempts so far, at least 1
+     * @return the delay
+     */
+    Duration retryDelay(final int attempts) {
+        // Capped well before the shift overflows
+        final Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
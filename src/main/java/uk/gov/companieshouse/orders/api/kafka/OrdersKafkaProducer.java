@@ -1,66 +1,161 @@
 package uk.gov.companieshouse.orders.api.kafka;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.kafka.exceptions.ProducerConfigException;
 import uk.gov.companieshouse.kafka.message.Message;
-import uk.gov.companieshouse.kafka.producer.Acks;
-import uk.gov.companieshouse.kafka.producer.CHKafkaProducer;
-import uk.gov.companieshouse.kafka.producer.ProducerConfig;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.exception.KafkaMessagingException;
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.util.NamedThreadFactory;
 
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
+/**
+ * Sends messages to Kafka without waiting for them to be acknowledged. Each send is handed to a small, bounded pool
+ * of threads, as the producer itself may block (for up to its maximum block) while it fetches topic metadata or waits
+ * for space in its buffer; the outcome is then reported by the producer's callback through the future returned.
+ * A send that cannot be queued because the pool is saturated is rejected straight away, failing its future.
+ * <p>
+ * Sends, failures, rejections and the time taken for each send to be acknowledged are recorded as metrics. The
+ * batching, compression and idempotence of the sends are those of the configured {@link ProducerProfile}.
+ */
 @Service
-public class OrdersKafkaProducer implements InitializingBean {
+public class OrdersKafkaProducer implements InitializingBean, DisposableBean {
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
-    private CHKafkaProducer chKafkaProducer;
-    @Value("${spring.kafka.producer.bootstrap-servers}")
-    private String brokerAddresses;
+
+    private static final String METRIC_PREFIX = "orders.api.kafka.producer";
+
+    private final ThreadPoolExecutor executor;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer acknowledgement;
+    private final String brokerAddresses;
+    private final ProducerProfile profile;
+    private Producer<String, byte[]> producer;
+
+    public OrdersKafkaProducer(
+            final @Value("${spring.kafka.producer.bootstrap-servers}") String brokerAddresses,
+            final @Value("${uk.gov.companieshouse.orders.api.kafka.producer.profile:default}") String profile,
+            final @Value("${uk.gov.companieshouse.orders.api.kafka.producer.pool-size:2}") int poolSize,
+            final @Value("${uk.gov.companieshouse.orders.api.kafka.producer.queue-capacity:1000}") int queueCapacity,
+            final MeterRegistry registry) {
+        this.brokerAddresses = brokerAddresses;
+        this.profile = ProducerProfile.fromName(profile);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("kafka-producer-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        sent = registry.counter(METRIC_PREFIX + ".sent");
+        failed = registry.counter(METRIC_PREFIX + ".failed");
+        rejected = registry.counter(METRIC_PREFIX + ".rejected");
+        acknowledgement = registry.timer(METRIC_PREFIX + ".acknowledgement");
+        registry.gauge(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size());
+    }
 
     /**
-     * Sends message to Kafka topic
+     * Sends message to Kafka topic, returning straight away.
+     * @param orderId order id
      * @param message message
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param asyncResponseLogger called with the metadata of the record sent once Kafka has acknowledged it
+     * @return the future metadata of the record sent, failing should the send fail or be rejected
      */
-    @Async
-    public void sendMessage(final String orderId, final Message message, Consumer<RecordMetadata> asyncResponseLogger)
-            throws ExecutionException, InterruptedException {
+    public CompletableFuture<RecordMetadata> sendMessage(final String orderId,
+                                                         final Message message,
+                                                         final Consumer<RecordMetadata> asyncResponseLogger) {
         Map<String, Object> logMap = LoggingUtils.createLogMap();
         LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, orderId);
         LOGGER.info("Sending message to kafka topic", logMap);
 
-        Future<RecordMetadata> recordMetadataFuture = chKafkaProducer.sendAndReturnFuture(message);
-        asyncResponseLogger.accept(recordMetadataFuture.get());
+        final CompletableFuture<RecordMetadata> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> send(message, result));
+        } catch (RejectedExecutionException ree) {
+            rejected.increment();
+            result.completeExceptionally(new KafkaMessagingException(
+                    "Too many messages awaiting send to Kafka; rejected message for order " + orderId, ree));
+        }
+        return result.thenApply(recordMetadata -> {
+            asyncResponseLogger.accept(recordMetadata);
+            return recordMetadata;
+        });
+    }
+
+    private void send(final Message message, final CompletableFuture<RecordMetadata> result) {
+        final long start = System.nanoTime();
+        // Without a key, records are spread across the partitions as by the round robin partitioner used previously
+        final ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(message.getTopic(), null, message.getTimestamp(), null, message.getValue());
+        try {
+            // The callback, and whatever is chained on the future it completes, is run on the producer's I/O thread
+            producer.send(record, (recordMetadata, exception) -> {
+                acknowledgement.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (exception == null) {
+                    sent.increment();
+                    result.complete(recordMetadata);
+                } else {
+                    failed.increment();
+                    result.completeExceptionally(exception);
+                }
+            });
+        } catch (RuntimeException ex) {
+            // Thrown should the maximum block be exceeded, for example
+            failed.increment();
+            result.completeExceptionally(ex);
+        }
     }
 
     @Override
     public void afterPropertiesSet() {
-        LOGGER.trace("Configuring CH Kafka producer");
-        ProducerConfig config = new ProducerConfig();
-        if (brokerAddresses != null && !brokerAddresses.isEmpty()) {
-            config.setBrokerAddresses(brokerAddresses.split(","));
-        } else {
+        LOGGER.trace("Configuring Kafka producer");
+        if (brokerAddresses == null || brokerAddresses.isEmpty()) {
             throw new ProducerConfigException("Broker addresses for kafka broker missing, check if environment variable KAFKA_BROKER_ADDR is configured. " +
                     "[Hint: The property 'kafka.broker.addresses' uses the value of this environment variable in live environments " +
                     "and that of 'spring.embedded.kafka.brokers' property in test.]");
         }
 
-        config.setRoundRobinPartitioner(true);
-        config.setAcks(Acks.WAIT_FOR_ALL);
-        config.setRetries(10);
-        config.setMaxBlockMilliseconds(10000);
-        chKafkaProducer = new CHKafkaProducer(config);
+        final Properties config = new Properties();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, brokerAddresses);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.RETRIES_CONFIG, 10);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 10000);
+        profile.configure(config);
+        producer = new KafkaProducer<>(config, new StringSerializer(), new ByteArraySerializer());
+        LOGGER.info("Configured Kafka producer with the " + profile.getJsonName() + " profile.");
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        // Lets the sends queued be handed to the producer before it is closed
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        if (producer != null) {
+            // Waits for those records already sent to be acknowledged
+            producer.close();
+        }
     }
 }
@@ -1,27 +1,34 @@
 package uk.gov.companieshouse.orders.api.kafka;
 
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.kafka.exceptions.SerializationException;
 import uk.gov.companieshouse.kafka.message.Message;
-import uk.gov.companieshouse.kafka.serialization.AvroSerializer;
-import uk.gov.companieshouse.kafka.serialization.SerializerFactory;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.orders.OrderReceived;
 
-import java.util.Date;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
+/**
+ * Creates order-received avro messages. The messages are encoded exactly as by the generic record serializer of the
+ * CH {@link uk.gov.companieshouse.kafka.serialization.SerializerFactory}, but with a single datum writer, which
+ * holds no state between writes and so is shared, and with an encoder and output stream kept by each thread and
+ * reused for every message it creates, rather than allocated afresh each time.
+ */
 @Service
 public class OrdersMessageFactory {
 	private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
-	private final SerializerFactory serializerFactory;
 	private static final String ORDER_RECEIVED_TOPIC = "order-received";
 
-	public OrdersMessageFactory(SerializerFactory serializer) {
-		serializerFactory = serializer;
-	}
+	private final DatumWriter<OrderReceived> writer = new GenericDatumWriter<>(OrderReceived.getClassSchema());
+	private final ThreadLocal<EncodeBuffers> buffers = ThreadLocal.withInitial(EncodeBuffers::new);
 
 	/**
 	 * Creates order-received avro message
@@ -30,13 +37,34 @@ public class OrdersMessageFactory {
 	 * @throws SerializationException
 	 */
 	public Message createMessage(final OrderReceived orderReceived) throws SerializationException {
-		LOGGER.trace("Configuring CH Kafka producer");
-		final AvroSerializer<OrderReceived> serializer =
-				serializerFactory.getGenericRecordSerializer(OrderReceived.class);
+		LOGGER.trace("Creating order-received message");
 		final Message message = new Message();
-		message.setValue(serializer.toBinary(orderReceived));
+		message.setValue(toBinary(orderReceived));
 		message.setTopic(ORDER_RECEIVED_TOPIC);
-		message.setTimestamp(new Date().getTime());
+		message.setTimestamp(System.currentTimeMillis());
 		return message;
 	}
+
+	private byte[] toBinary(final OrderReceived orderReceived) throws SerializationException {
+		final EncodeBuffers threadBuffers = buffers.get();
+		threadBuffers.output.reset();
+		// Reinitialises the thread's encoder, buffer included, to write to its output stream
+		threadBuffers.encoder = EncoderFactory.get().binaryEncoder(threadBuffers.output, threadBuffers.encoder);
+		try {
+			writer.write(orderReceived, threadBuffers.encoder);
+			threadBuffers.encoder.flush();
+		} catch (IOException | RuntimeException ex) {
+			throw new SerializationException("Failed to serialize order-received message: " + ex.getMessage());
+		}
+		// A copy, as the message may still be being sent when the stream is next reused
+		return threadBuffers.output.toByteArray();
+	}
+
+	/**
+	 * The encoder and output stream reused by a thread for every message it creates.
+	 */
+	private static final class EncodeBuffers {
+		private final ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+		private BinaryEncoder encoder;
+	}
 }
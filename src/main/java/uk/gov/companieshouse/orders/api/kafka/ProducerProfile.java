@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static uk.gov.companieshouse.orders.api.converter.EnumValueNameConverter.convertEnumValueJsonToName;
+import static uk.gov.companieshouse.orders.api.converter.EnumValueNameConverter.convertEnumValueNameToJson;
+
+/**
+ * The named sets of batching, compression and idempotence settings the {@link OrdersKafkaProducer} may be configured
+ * with, selected by the <code>uk.gov.companieshouse.orders.api.kafka.producer.profile</code> property. Whatever the
+ * profile, every record is acknowledged by all in-sync replicas, and is retried up to 10 times.
+ */
+public enum ProducerProfile {
+    /**
+     * Sends each record as soon as possible, uncompressed, as the producer did before profiles were introduced. This
+     * is the profile to choose for low latency, as no setting here adds to the time taken to send a record.
+     */
+    DEFAULT(0, 16384, "none", false),
+    /**
+     * Lingers for a little while to fill larger batches, which are compressed, and sends them idempotently. Suits
+     * bursts of records, such as the outbox relay's, at the cost of the linger added to each.
+     */
+    HIGH_THROUGHPUT(20, 131072, "lz4", true);
+
+    private final int lingerMillis;
+    private final int batchSizeBytes;
+    private final String compressionType;
+    private final boolean idempotent;
+
+    ProducerProfile(final int lingerMillis,
+                    final int batchSizeBytes,
+                    final String compressionType,
+                    final boolean idempotent) {
+        this.lingerMillis = lingerMillis;
+        this.batchSizeBytes = batchSizeBytes;
+        this.compressionType = compressionType;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Adds the settings of the profile to the producer configuration.
+     * @param config the producer configuration
+     */
+    void configure(final Properties config) {
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMillis);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotent);
+    }
+
+    public String getJsonName() {
+        return convertEnumValueNameToJson(this);
+    }
+
+    /**
+     * Gets the profile named.
+     * @param name the name of the profile, such as <code>high-throughput</code>
+     * @return the profile
+     * @throws IllegalArgumentException should there be no such profile
+     */
+    public static ProducerProfile fromName(final String name) {
+        try {
+            return valueOf(convertEnumValueJsonToName(name.trim()));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown Kafka producer profile '" + name + "'; expected one of "
+                    + Arrays.stream(values()).map(ProducerProfile::getJsonName).collect(Collectors.joining(", ")),
+                    ex);
+        }
+    }
+}
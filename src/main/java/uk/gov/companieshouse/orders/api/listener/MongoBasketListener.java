@@ -0,0 +1,43 @@
+package uk.gov.companieshouse.orders.api.listener;
+
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.util.List;
+
+/**
+ * Reads the item options of the items held by a basket once the reflective mapping has read it. Not registered when
+ * the {@link uk.gov.companieshouse.orders.api.converter.AggregateDocumentConverters} are in use, as these read the
+ * item options as they read the basket.
+ */
+@Component
+@ConditionalOnProperty(name = "uk.gov.companieshouse.orders.api.mongo.converters.enabled", havingValue = "false",
+        matchIfMissing = true)
+public class MongoBasketListener extends AbstractMongoEventListener<Basket> {
+
+    private static final String BASKET_ORDER_TYPE_NAME = "basket";
+
+    private final OrderItemOptionsReader reader;
+
+    MongoBasketListener(final OrderItemOptionsReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Overridden here to intervene in the reading of a {@link Basket} from the database to make sure the
+     * item options of the item snapshots it holds, if present, are read correctly.
+     * @param event the {@link AfterConvertEvent} presenting both the mapped {@link Basket} and its {@link Document}
+     */
+    @Override
+    public void onAfterConvert(final AfterConvertEvent<Basket> event) {
+        final Document basketDocument = event.getDocument();
+        final List<Item> items = event.getSource().getData().getItems();
+        reader.readOrderItemsOptions(items, basketDocument, BASKET_ORDER_TYPE_NAME);
+    }
+
+}
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.orders.api.listener;
 
 import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.stereotype.Component;
@@ -9,7 +10,14 @@ import uk.gov.companieshouse.orders.api.model.Order;
 
 import java.util.List;
 
+/**
+ * Reads the item options of the items held by an order once the reflective mapping has read it. Not registered when
+ * the {@link uk.gov.companieshouse.orders.api.converter.AggregateDocumentConverters} are in use, as these read the
+ * item options as they read the order.
+ */
 @Component
+@ConditionalOnProperty(name = "uk.gov.companieshouse.orders.api.mongo.converters.enabled", havingValue = "false",
+        matchIfMissing = true)
 public class MongoOrderListener extends AbstractMongoEventListener<Order> {
 
     private static final String ORDER_ORDER_TYPE_NAME = "order";
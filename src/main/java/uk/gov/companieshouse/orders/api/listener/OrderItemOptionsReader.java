@@ -9,20 +9,25 @@ import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.ItemOptions;
 import uk.gov.companieshouse.orders.api.model.ItemType;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * Reads (deserialises) the item options for each item on an order read from the DB.
  */
 @Component
-class OrderItemOptionsReader {
+public class OrderItemOptionsReader {
+
+    private static final Map<String, ItemType> TYPES_BY_KIND =
+            stream(ItemType.values()).collect(toMap(ItemType::getKind, Function.identity()));
 
     private final ObjectMapper mapper;
 
-    OrderItemOptionsReader(final ObjectMapper mapper) {
+    public OrderItemOptionsReader(final ObjectMapper mapper) {
         this.mapper = mapper;
     }
 
@@ -39,11 +44,7 @@ class OrderItemOptionsReader {
             throw new IllegalStateException("No " + orderType + " document found on event.");
         }
         for (int itemIndex = 0; itemIndex < items.size(); itemIndex++) {
-            try {
-                readItemOptions(itemIndex, items, orderDocument);
-            } catch (IOException ioe) {
-                throw new IllegalStateException("Error parsing item options JSON: " + ioe.getMessage());
-            }
+            readItemOptions(itemIndex, items, orderDocument);
         }
     }
 
@@ -53,10 +54,8 @@ class OrderItemOptionsReader {
      * @param itemIndex the item index identifying both the item within the items collection and its {@link Document}
      * @param items the items held by the order
      * @param orderDocument the order {@link Document} from the DB
-     * @throws IOException should there be an issue parsing the item options JSON from the DB
      */
-    void readItemOptions(final int itemIndex, final List<Item> items, final Document orderDocument)
-            throws IOException {
+    void readItemOptions(final int itemIndex, final List<Item> items, final Document orderDocument) {
         final Item item = items.get(itemIndex);
         final Document optionsDocument = getItemOptionsDocument(orderDocument, itemIndex);
         if (optionsDocument == null) {
@@ -81,16 +80,22 @@ class OrderItemOptionsReader {
     }
 
     /**
-     * Reads (deserialises) the options document into the correct type of item options object.
+     * Reads (deserialises) the options document into the correct type of item options object. The document is a
+     * map, and so is converted by Jackson directly, without first being rendered as JSON only to be parsed again.
      * @param optionsDocument the {@link Document} from the DB representing the item options
      * @param kind the item kind used to determine the correct item options class for the object to read the
      *             document into
      * @return the deserialised item options object, either a {@link CertificateItemOptions}, or a
      * {@link CertifiedCopyItemOptions} as appropriate for the kind
-     * @throws IOException should there be an issue parsing the item options JSON from the DB
+     * @throws IllegalStateException should there be an issue reading the item options from the DB
      */
-    ItemOptions readItemOptions(final Document optionsDocument, final String kind) throws IOException {
-        return mapper.readValue(optionsDocument.toJson(), getType(kind).getOptionsType());
+    public ItemOptions readItemOptions(final Document optionsDocument, final String kind) {
+        final Class<? extends ItemOptions> optionsType = getType(kind).getOptionsType();
+        try {
+            return mapper.convertValue(optionsDocument, optionsType);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalStateException("Error reading item options: " + iae.getMessage());
+        }
     }
 
     /**
@@ -99,9 +104,10 @@ class OrderItemOptionsReader {
      * @return the corresponding {@link ItemType}
      */
     ItemType getType(final String kind) {
-        return stream(ItemType.values())
-                .filter(value -> value.getKind().equals(kind))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("'" + kind + "' is not a known kind!"));
+        final ItemType type = TYPES_BY_KIND.get(kind);
+        if (type == null) {
+            throw new IllegalArgumentException("'" + kind + "' is not a known kind!");
+        }
+        return type;
     }
 }
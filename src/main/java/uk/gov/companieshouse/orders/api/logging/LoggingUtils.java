@@ -13,10 +13,13 @@ public class LoggingUtils {
     public static final String AUTHORIZED = "authorized";
     public static final String BASKET_ID = "basket_id";
     public static final String CHECKOUT_ID = "checkout_id";
+    public static final String COLLECTION = "collection";
     public static final String COMPANY_NUMBER = "company_number";
+    public static final String DOWNSTREAM = "downstream";
     public static final String ERROR_TYPE = "error_type";
     public static final String EXCEPTION = "exception";
     public static final String IDENTITY_TYPE = "identity_type";
+    public static final String INDEX = "index";
     public static final String ITEM_ID = "item_id";
     public static final String ITEM_URI = "item_uri";
     public static final String OFFSET = "offset";
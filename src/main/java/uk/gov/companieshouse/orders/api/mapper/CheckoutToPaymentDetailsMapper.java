@@ -11,6 +11,9 @@ import uk.gov.companieshouse.orders.api.model.ItemCosts;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
 public interface CheckoutToPaymentDetailsMapper {
@@ -25,7 +28,23 @@ public interface CheckoutToPaymentDetailsMapper {
 
     default void updateDTOWithPaymentDetails(CheckoutData checkoutData, PaymentDetailsDTO paymentDetailsDTO) {
         List<ItemDTO> itemDTOs = new ArrayList<>();
-        Item item = checkoutData.getItems().get(0);
+        for (Item item : checkoutData.getItems()) {
+            addItemDTOs(item, itemDTOs);
+        }
+
+        paymentDetailsDTO.setItems(itemDTOs);
+        paymentDetailsDTO.setKind("payment-details#payment-details");
+        // A basket may hold items for several companies, in which case no one company number applies
+        final Set<String> companyNumbers = checkoutData.getItems().stream()
+                .map(Item::getCompanyNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (companyNumbers.size() == 1) {
+            paymentDetailsDTO.setCompanyNumber(companyNumbers.iterator().next());
+        }
+    }
+
+    default void addItemDTOs(Item item, List<ItemDTO> itemDTOs) {
         for (ItemCosts itemCosts : item.getItemCosts()) {
             ItemDTO itemDTO = new ItemDTO();
 
@@ -50,9 +69,5 @@ public interface CheckoutToPaymentDetailsMapper {
 
             itemDTOs.add(itemDTO);
         }
-
-        paymentDetailsDTO.setItems(itemDTOs);
-        paymentDetailsDTO.setKind("payment-details#payment-details");
-        paymentDetailsDTO.setCompanyNumber(item.getCompanyNumber());
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.orders.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
@@ -47,6 +48,10 @@ public class Item {
 
     private String totalItemCost;
 
+    /** When the item was last retrieved from the items API, for items held in a basket only. Not exposed. */
+    @JsonIgnore
+    private LocalDateTime fetchedAt;
+
     public String getId() {
         return id;
     }
@@ -198,4 +203,12 @@ public class Item {
     public void setTotalItemCost(String totalItemCost) {
         this.totalItemCost = totalItemCost;
     }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(LocalDateTime fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
 }
@@ -0,0 +1,89 @@
+package uk.gov.companieshouse.orders.api.model;
+
+import com.google.gson.Gson;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records an order-received notification that is yet to be, or has been, published to Kafka. It is keyed by the ID
+ * of the order it notifies the receipt of, and written before the order itself, so that no order can be created
+ * without it.
+ */
+@Document(collection = "order_received_outbox")
+public class OutboxRecord {
+    @Id
+    private String id;
+
+    private String orderUri;
+
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getOrderUri() {
+        return orderUri;
+    }
+
+    public void setOrderUri(String orderUri) {
+        this.orderUri = orderUri;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+
+    @Override
+    public String toString() { return new Gson().toJson(this); }
+}
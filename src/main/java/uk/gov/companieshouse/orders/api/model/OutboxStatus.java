@@ -0,0 +1,15 @@
+package uk.gov.companieshouse.orders.api.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import static uk.gov.companieshouse.orders.api.converter.EnumValueNameConverter.convertEnumValueNameToJson;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT;
+
+    @JsonValue
+    public String getJsonName() {
+        return convertEnumValueNameToJson(this);
+    }
+}
@@ -1,7 +1,22 @@
 package uk.gov.companieshouse.orders.api.repository;
 
 import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Item;
 
 public interface BasketRepositoryCustom {
+
+    /**
+     * Clears the basket of everything but its delivery details in a single atomic update.
+     * @param id the ID of the basket
+     * @return the basket as it was before it was cleared, or <code>null</code> if there is no such basket
+     */
     Basket clearBasketDataById(String id);
+
+    /**
+     * Replaces the item held in the basket that has the same item URI as the item provided. Does not alter the time
+     * the basket was last updated, as this is not a change made by the basket's owner.
+     * @param id the ID of the basket
+     * @param item the item to be stored in place of the existing one
+     */
+    void updateItem(String id, Item item);
 }
@@ -4,8 +4,7 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import uk.gov.companieshouse.orders.api.model.Basket;
-import uk.gov.companieshouse.orders.api.model.BasketData;
-import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
+import uk.gov.companieshouse.orders.api.model.Item;
 
 import java.time.LocalDateTime;
 
@@ -24,16 +23,25 @@ public class BasketRepositoryImpl implements BasketRepositoryCustom {
     public Basket clearBasketDataById(String id) {
         Query query = new Query().addCriteria(where("_id").is(id));
 
-        Basket basket = mongoTemplate.findOne(query, Basket.class);
-        BasketData basketData = basket.getData();
-        DeliveryDetails deliveryDetails = basketData.getDeliveryDetails();
-        BasketData newBasketData = new BasketData();
-        newBasketData.setDeliveryDetails(deliveryDetails);
-
+        // Everything but the delivery details is cleared in place, so that they survive without having to be read
         Update update = new Update();
-        update.set("data", newBasketData);
+        update.unset("data.items");
+        update.unset("data.etag");
+        update.unset("data.kind");
+        update.unset("data.links");
+        update.unset("data.total_basket_cost");
         update.set("updated_at", LocalDateTime.now());
 
         return mongoTemplate.findAndModify(query, update, Basket.class);
     }
+
+    @Override
+    public void updateItem(String id, Item item) {
+        Query query = new Query().addCriteria(where("_id").is(id).and("data.items.item_uri").is(item.getItemUri()));
+
+        Update update = new Update();
+        update.set("data.items.$", item);
+
+        mongoTemplate.updateFirst(query, update, Basket.class);
+    }
 }
@@ -6,5 +6,5 @@ import org.springframework.stereotype.Repository;
 import uk.gov.companieshouse.orders.api.model.Checkout;
 
 @Repository
-public interface CheckoutRepository extends MongoRepository<Checkout, String> {
+public interface CheckoutRepository extends MongoRepository<Checkout, String>, CheckoutRepositoryCustom {
 }
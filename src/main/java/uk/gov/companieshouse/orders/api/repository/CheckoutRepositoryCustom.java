@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import uk.gov.companieshouse.orders.api.model.Checkout;
+
+import java.util.Optional;
+
+public interface CheckoutRepositoryCustom {
+
+    /**
+     * Gets the checkout for presentation only, reading it with the read preference configured for
+     * {@link ReadOperation#PAYMENT_DETAILS_LOOKUP}. It may therefore be a little out of date, and so is not to be
+     * updated.
+     * @param id the ID of the checkout
+     * @return the checkout, or empty if there is no such checkout (or it is yet to reach the member read)
+     */
+    Optional<Checkout> findByIdForPaymentDetails(String id);
+
+    /**
+     * Writes the payment status, payment date/time and payment reference of the checkout, along with its etag and
+     * the time it was last updated, to the database, leaving the rest of the stored checkout as it is. The update is
+     * only made if the stored checkout still has the etag given, that is, if it has not been updated since it was read.
+     * @param checkout the checkout, holding the updated field values
+     * @param expectedEtag the etag of the checkout as it was read
+     * @return whether the update was made (<code>true</code>), or not (<code>false</code>)
+     */
+    boolean updatePaymentDetails(Checkout checkout, String expectedEtag);
+}
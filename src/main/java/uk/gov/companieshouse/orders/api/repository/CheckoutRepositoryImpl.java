@@ -0,0 +1,43 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.CheckoutData;
+
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class CheckoutRepositoryImpl implements CheckoutRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadPreferenceTemplates templates;
+
+    public CheckoutRepositoryImpl(MongoTemplate mongoTemplate, ReadPreferenceTemplates templates) {
+        this.mongoTemplate = mongoTemplate;
+        this.templates = templates;
+    }
+
+    @Override
+    public Optional<Checkout> findByIdForPaymentDetails(String id) {
+        return Optional.ofNullable(
+                templates.forOperation(ReadOperation.PAYMENT_DETAILS_LOOKUP).findById(id, Checkout.class));
+    }
+
+    @Override
+    public boolean updatePaymentDetails(Checkout checkout, String expectedEtag) {
+        Query query = new Query().addCriteria(where("_id").is(checkout.getId()).and("data.etag").is(expectedEtag));
+
+        CheckoutData data = checkout.getData();
+        Update update = new Update();
+        update.set("data.status", data.getStatus());
+        update.set("data.paid_at", data.getPaidAt());
+        update.set("data.payment_reference", data.getPaymentReference());
+        update.set("data.etag", data.getEtag());
+        update.set("updated_at", checkout.getUpdatedAt());
+
+        return mongoTemplate.updateFirst(query, update, Checkout.class).getMatchedCount() == 1;
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Declares the secondary indexes of the collections behind {@link OrderRepository}, {@link CheckoutRepository},
+ * {@link BasketRepository} and {@link OutboxRepository}, and once the application is ready, creates any of them that do not yet exist.
+ * <p>
+ * The indexes are built in the background, both in the sense that this does not hold up the application taking
+ * requests, and in the sense that MongoDB does not lock the collections while it builds them. Creating an index that
+ * already exists does nothing, so this is safe to run on every start up. Once done, the indexes each collection
+ * actually has are checked against those declared, and a warning is logged for any found to be missing.
+ */
+@Component
+public class IndexManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    /** The fields of each of the declared indexes, by the entity stored in the collection they belong to. */
+    private static final Map<Class<?>, List<List<String>>> INDEXES;
+
+    static {
+        final Map<Class<?>, List<List<String>>> indexes = new LinkedHashMap<>();
+        indexes.put(Order.class, Arrays.asList(
+                // Serves both lookups by user and the user's order history, in order
+                Arrays.asList("user_id", "created_at", "_id"),
+                singleField("data.reference"),
+                singleField("data.payment_reference"),
+                singleField("created_at")));
+        indexes.put(Checkout.class, Arrays.asList(
+                singleField("user_id"),
+                singleField("data.reference"),
+                singleField("data.payment_reference"),
+                singleField("data.status"),
+                singleField("created_at")));
+        indexes.put(Basket.class, Arrays.asList(
+                singleField("created_at"),
+                singleField("updated_at")));
+        indexes.put(OutboxRecord.class, Arrays.asList(
+                // Serve the relay's search for pending records due, its search for the oldest pending record, and
+                // the sweep of those long since sent
+                Arrays.asList("status", "next_attempt_at"),
+                Arrays.asList("status", "created_at"),
+                Arrays.asList("status", "sent_at")));
+        INDEXES = Collections.unmodifiableMap(indexes);
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public IndexManager(final MongoTemplate mongoTemplate,
+                        final @Value("${uk.gov.companieshouse.orders.api.index-management.enabled:true}")
+                                boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts the creation of the declared indexes on a background thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            LOGGER.info("Index management is disabled; declared indexes will not be created.");
+            return;
+        }
+        final Thread thread = new Thread(() -> {
+            try {
+                manageIndexes();
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to check declared indexes.", ex, LoggingUtils.createLogMap());
+            }
+        }, "index-manager");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Creates each declared index that does not yet exist, then checks that all of them do.
+     * @return the number of declared indexes found to be missing
+     */
+    int manageIndexes() {
+        final int total = INDEXES.values().stream().mapToInt(List::size).sum();
+        int processed = 0;
+        for (final Map.Entry<Class<?>, List<List<String>>> entry : INDEXES.entrySet()) {
+            final IndexOperations indexOperations = mongoTemplate.indexOps(entry.getKey());
+            final String collection = mongoTemplate.getCollectionName(entry.getKey());
+            for (final List<String> fields : entry.getValue()) {
+                final Map<String, Object> logMap = indexLogMap(collection, fields);
+                try {
+                    indexOperations.ensureIndex(index(fields));
+                    LOGGER.info("Ensured index " + (++processed) + " of " + total + ".", logMap);
+                } catch (RuntimeException ex) {
+                    processed++;
+                    LOGGER.error("Failed to create index " + processed + " of " + total + ".", ex, logMap);
+                }
+            }
+        }
+        return verifyIndexes();
+    }
+
+    /**
+     * Checks the indexes each collection has against those declared for it, warning of any missing.
+     * @return the number of declared indexes missing
+     */
+    int verifyIndexes() {
+        int missing = 0;
+        for (final Map.Entry<Class<?>, List<List<String>>> entry : INDEXES.entrySet()) {
+            final String collection = mongoTemplate.getCollectionName(entry.getKey());
+            final List<List<String>> existing = new ArrayList<>();
+            for (final IndexInfo info : mongoTemplate.indexOps(entry.getKey()).getIndexInfo()) {
+                existing.add(info.getIndexFields().stream().map(IndexField::getKey).collect(Collectors.toList()));
+            }
+            for (final List<String> fields : entry.getValue()) {
+                if (!existing.contains(fields)) {
+                    missing++;
+                    LOGGER.error("Declared index is missing; queries relying on it will scan the collection.",
+                            indexLogMap(collection, fields));
+                }
+            }
+        }
+        if (missing == 0) {
+            LOGGER.info("All declared indexes are present.");
+        }
+        return missing;
+    }
+
+    private static Index index(final List<String> fields) {
+        final Index index = new Index().background();
+        fields.forEach(field -> index.on(field, Sort.Direction.ASC));
+        return index;
+    }
+
+    private static Map<String, Object> indexLogMap(final String collection, final List<String> fields) {
+        final Map<String, Object> logMap = LoggingUtils.createLogMap();
+        LoggingUtils.logIfNotNull(logMap, LoggingUtils.COLLECTION, collection);
+        LoggingUtils.logIfNotNull(logMap, LoggingUtils.INDEX, String.join(",", fields));
+        return logMap;
+    }
+
+    private static List<String> singleField(final String field) {
+        return Collections.singletonList(field);
+    }
+}
@@ -6,4 +6,4 @@ import org.springframework.stereotype.Repository;
 import uk.gov.companieshouse.orders.api.model.Order;
 
 @Repository
-public interface OrderRepository extends MongoRepository<Order, String> { }
+public interface OrderRepository extends MongoRepository<Order, String>, OrderRepositoryCustom { }
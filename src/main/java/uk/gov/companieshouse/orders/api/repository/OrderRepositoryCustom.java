@@ -0,0 +1,31 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import uk.gov.companieshouse.orders.api.model.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Gets the order for presentation only, reading it with the read preference configured for
+     * {@link ReadOperation#ORDER_LOOKUP}. It may therefore be a little out of date, and so is not to be updated.
+     * @param id the ID of the order
+     * @return the order, or empty if there is no such order (or it is yet to reach the member read)
+     */
+    Optional<Order> findByIdForLookup(String id);
+
+    /**
+     * Gets a page of the user's orders, most recent first, without the item options of the items ordered. The page
+     * starts just beyond the order identified by its time of creation and ID (the keyset), so that however far into
+     * the history it is, reading it costs no more than reading the first page.
+     * @param userId the ID of the user
+     * @param createdAt the time the last order on the previous page was created, or <code>null</code> for the first
+     *                  page
+     * @param orderId the ID of the last order on the previous page, or <code>null</code> for the first page
+     * @param limit the maximum number of orders to retrieve
+     * @return the orders
+     */
+    List<Order> findOrderHistory(String userId, LocalDateTime createdAt, String orderId, int limit);
+}
@@ -0,0 +1,42 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.gov.companieshouse.orders.api.model.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final ReadPreferenceTemplates templates;
+
+    public OrderRepositoryImpl(ReadPreferenceTemplates templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    public Optional<Order> findByIdForLookup(String id) {
+        return Optional.ofNullable(templates.forOperation(ReadOperation.ORDER_LOOKUP).findById(id, Order.class));
+    }
+
+    @Override
+    public List<Order> findOrderHistory(String userId, LocalDateTime createdAt, String orderId, int limit) {
+        final Criteria criteria = where("user_id").is(userId);
+        if (createdAt != null) {
+            criteria.orOperator(
+                    where("created_at").lt(createdAt),
+                    where("created_at").is(createdAt).and("_id").lt(orderId));
+        }
+        // Walks the user_id, created_at, _id index backwards, so that no sort is needed
+        final Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "created_at", "_id"))
+                .limit(limit);
+        query.fields().exclude("data.items.item_options");
+        return templates.forOperation(ReadOperation.ORDER_HISTORY).find(query, Order.class);
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+
+@Repository
+public interface OutboxRepository extends MongoRepository<OutboxRecord, String> { }
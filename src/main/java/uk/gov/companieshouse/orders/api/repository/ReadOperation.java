@@ -0,0 +1,24 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+/**
+ * The read only operations that may be directed away from the primary, each with its own configurable read
+ * preference (see {@link ReadPreferenceTemplates}).
+ */
+public enum ReadOperation {
+    /** The retrieval of an order by its ID for <code>GET /orders/{id}</code>, ownership check included. */
+    ORDER_LOOKUP("order-lookup"),
+    /** The retrieval of a page of a user's orders for <code>GET /orders?user={user}</code>. */
+    ORDER_HISTORY("order-history"),
+    /** The retrieval of a checkout for <code>GET /basket/checkouts/{id}/payment</code>, ownership check included. */
+    PAYMENT_DETAILS_LOOKUP("payment-details-lookup");
+
+    private final String propertyName;
+
+    ReadOperation(final String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    String getPropertyName() {
+        return propertyName;
+    }
+}
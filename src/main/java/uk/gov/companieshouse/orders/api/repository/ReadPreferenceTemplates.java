@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import com.mongodb.ReadPreference;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Provides the {@link MongoTemplate} to use for each {@link ReadOperation}, reading with the read preference
+ * configured for it by the following properties:
+ * <ul>
+ *     <li><code>uk.gov.companieshouse.orders.api.read-preference.{operation}.mode</code> - one of
+ *     <code>primary</code> (the default), <code>primaryPreferred</code>, <code>secondary</code>,
+ *     <code>secondaryPreferred</code> or <code>nearest</code></li>
+ *     <li><code>uk.gov.companieshouse.orders.api.read-preference.{operation}.max-staleness-seconds</code> - how far
+ *     behind the primary a secondary may be and still be read from (at least 90, if set at all)</li>
+ * </ul>
+ * Operations reading from the primary share the application's template; the others each have their own, sharing
+ * its database factory and converter. Writes, and reads whose results are written back, always use the application's
+ * template, and so the primary.
+ */
+@Component
+public class ReadPreferenceTemplates {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String PROPERTY_PREFIX = "uk.gov.companieshouse.orders.api.read-preference.";
+
+    private final Map<ReadOperation, MongoTemplate> templates = new EnumMap<>(ReadOperation.class);
+
+    public ReadPreferenceTemplates(final MongoTemplate mongoTemplate,
+                                   final MongoDbFactory factory,
+                                   final MongoConverter converter,
+                                   final ApplicationContext context) {
+        for (final ReadOperation operation : ReadOperation.values()) {
+            final ReadPreference readPreference = readPreference(context.getEnvironment(), operation);
+            if (readPreference.equals(ReadPreference.primary())) {
+                templates.put(operation, mongoTemplate);
+            } else {
+                final MongoTemplate template = new MongoTemplate(factory, converter);
+                template.setReadPreference(readPreference);
+                // So that the mapping events the item options are read on are published
+                template.setApplicationContext(context);
+                templates.put(operation, template);
+            }
+            final Map<String, Object> logMap = LoggingUtils.createLogMap();
+            logMap.put("read_operation", operation.getPropertyName());
+            LOGGER.info("Reading with read preference " + readPreference + ".", logMap);
+        }
+    }
+
+    /**
+     * Gets the template to use for the operation.
+     * @param operation the operation
+     * @return the template reading with the read preference configured for the operation
+     */
+    public MongoTemplate forOperation(final ReadOperation operation) {
+        return templates.get(operation);
+    }
+
+    /**
+     * Gets the read preference configured for the operation.
+     * @param properties the configuration properties
+     * @param operation the operation
+     * @return the read preference
+     * @throws IllegalArgumentException should the read preference configured be invalid
+     */
+    static ReadPreference readPreference(final PropertyResolver properties, final ReadOperation operation) {
+        final String prefix = PROPERTY_PREFIX + operation.getPropertyName();
+        final String mode = properties.getProperty(prefix + ".mode", "primary");
+        final long maxStalenessSeconds = properties.getProperty(prefix + ".max-staleness-seconds", Long.class, 0L);
+        if (maxStalenessSeconds <= 0) {
+            return ReadPreference.valueOf(mode);
+        }
+        return ReadPreference.valueOf(mode, Collections.emptyList(), maxStalenessSeconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,176 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+import uk.gov.companieshouse.orders.api.model.OutboxStatus;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Periodically deletes the checkouts that have been left pending payment, and the baskets that have not been
+ * updated, for longer than they are to be retained, along with the order-received notifications long since sent from
+ * the outbox. Where archiving is enabled, each is first copied to a cold collection named after its own with an
+ * <code>_archive</code> suffix, stamped with the time it was archived.
+ * <p>
+ * All are swept in batches. A document is only deleted if it still qualifies at the time of deletion, so a basket
+ * updated after it was found (and perhaps archived) survives; being keyed by ID, its archived copy is replaced should
+ * it be swept again later.
+ * <p>
+ * Retention of checkouts and baskets is opted into, whereas the outbox records are swept by default, under their own
+ * switch, as otherwise the outbox would keep every notification ever sent.
+ */
+@Component
+public class RetentionSweeper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    static final String ARCHIVE_SUFFIX = "_archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final boolean archiveEnabled;
+    private final boolean sentOutboxRecordSweepEnabled;
+    private final Duration pendingCheckoutRetention;
+    private final Duration idleBasketRetention;
+    private final Duration sentOutboxRecordRetention;
+    private final int batchSize;
+
+    public RetentionSweeper(final MongoTemplate mongoTemplate,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.enabled:false}")
+                                    boolean enabled,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.archive.enabled:false}")
+                                    boolean archiveEnabled,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.sent-outbox-records.enabled:true}")
+                                    boolean sentOutboxRecordSweepEnabled,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.pending-checkouts.hours:72}")
+                                    long pendingCheckoutRetentionHours,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.idle-baskets.days:90}")
+                                    long idleBasketRetentionDays,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.sent-outbox-records.days:7}")
+                                    long sentOutboxRecordRetentionDays,
+                            final @Value("${uk.gov.companieshouse.orders.api.retention.batch-size:500}")
+                                    int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.archiveEnabled = archiveEnabled;
+        this.sentOutboxRecordSweepEnabled = sentOutboxRecordSweepEnabled;
+        this.pendingCheckoutRetention = Duration.ofHours(pendingCheckoutRetentionHours);
+        this.idleBasketRetention = Duration.ofDays(idleBasketRetentionDays);
+        this.sentOutboxRecordRetention = Duration.ofDays(sentOutboxRecordRetentionDays);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sweeps the checkouts and baskets, unless retention is disabled, and the outbox records, unless their sweep is
+     * disabled.
+     */
+    @Scheduled(initialDelayString = "${uk.gov.companieshouse.orders.api.retention.sweep-interval-millis:3600000}",
+            fixedDelayString = "${uk.gov.companieshouse.orders.api.retention.sweep-interval-millis:3600000}")
+    public void onSchedule() {
+        if (!enabled && !sentOutboxRecordSweepEnabled) {
+            return;
+        }
+        try {
+            if (enabled) {
+                sweepPendingCheckouts();
+                sweepIdleBaskets();
+            }
+            if (sentOutboxRecordSweepEnabled) {
+                sweepSentOutboxRecords();
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to sweep expired checkouts, baskets and outbox records.", ex,
+                    LoggingUtils.createLogMap());
+        }
+    }
+
+    /**
+     * Deletes (and archives, if enabled) the checkouts created longer ago than they are retained that are still
+     * pending payment.
+     * @return the number of checkouts deleted
+     */
+    int sweepPendingCheckouts() {
+        final LocalDateTime cutOff = LocalDateTime.now().minus(pendingCheckoutRetention);
+        return sweep(Checkout.class,
+                where("data.status").is(PaymentStatus.PENDING.getJsonName()).and("created_at").lt(cutOff));
+    }
+
+    /**
+     * Deletes (and archives, if enabled) the baskets last updated longer ago than they are retained.
+     * @return the number of baskets deleted
+     */
+    int sweepIdleBaskets() {
+        final LocalDateTime cutOff = LocalDateTime.now().minus(idleBasketRetention);
+        return sweep(Basket.class, where("updated_at").lt(cutOff));
+    }
+
+    /**
+     * Deletes (and archives, if enabled) the outbox records of the order-received notifications sent longer ago than
+     * they are retained.
+     * @return the number of outbox records deleted
+     */
+    int sweepSentOutboxRecords() {
+        final LocalDateTime cutOff = LocalDateTime.now().minus(sentOutboxRecordRetention);
+        return sweep(OutboxRecord.class,
+                where("status").is(OutboxStatus.SENT.getJsonName()).and("sent_at").lt(cutOff));
+    }
+
+    private int sweep(final Class<?> entityClass, final Criteria expired) {
+        final String collection = mongoTemplate.getCollectionName(entityClass);
+        int deleted = 0;
+        List<Document> batch;
+        do {
+            final Query query = new Query(expired).limit(batchSize);
+            if (!archiveEnabled) {
+                query.fields().include("_id");
+            }
+            batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+            if (archiveEnabled) {
+                archive(collection, batch);
+            }
+            final List<Object> ids = batch.stream().map(document -> document.get("_id")).collect(Collectors.toList());
+            final Query stillExpired = new Query(where("_id").in(ids)).addCriteria(expired);
+            deleted += mongoTemplate.remove(stillExpired, collection).getDeletedCount();
+        } while (batch.size() == batchSize);
+
+        final Map<String, Object> logMap = LoggingUtils.createLogMap();
+        LoggingUtils.logIfNotNull(logMap, LoggingUtils.COLLECTION, collection);
+        LOGGER.info("Swept " + deleted + " expired documents" + (archiveEnabled ? " to the archive." : "."), logMap);
+        return deleted;
+    }
+
+    private void archive(final String collection, final List<Document> documents) {
+        final Date archivedAt = new Date();
+        final List<ReplaceOneModel<Document>> replacements = documents.stream()
+                .map(document -> new ReplaceOneModel<>(new Document("_id", document.get("_id")),
+                        document.append("archived_at", archivedAt),
+                        new ReplaceOptions().upsert(true)))
+                .collect(Collectors.toList());
+        mongoTemplate.getCollection(collection + ARCHIVE_SUFFIX).bulkWrite(replacements);
+    }
+}
@@ -7,6 +7,10 @@ import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.order.item.BaseItemApi;
 import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.orders.api.client.Api;
+import uk.gov.companieshouse.orders.api.client.ApiConnections;
+import uk.gov.companieshouse.orders.api.client.Downstream;
+import uk.gov.companieshouse.orders.api.client.DownstreamGuard;
+import uk.gov.companieshouse.orders.api.client.HedgingPolicy;
 import uk.gov.companieshouse.orders.api.exception.ServiceException;
 import uk.gov.companieshouse.orders.api.mapper.ApiToItemMapper;
 import uk.gov.companieshouse.orders.api.model.Certificate;
@@ -15,6 +19,8 @@ import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.ItemStatus;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
 
 @Service
 public class ApiClientService {
@@ -23,16 +29,34 @@ public class ApiClientService {
 
     private final Api apiClient;
 
+    private final ItemCache itemCache;
+
+    private final ApiConnections connections;
+
+    private final DownstreamGuard downstreamGuard;
+
+    private final HedgingPolicy hedgingPolicy;
+
     private static final UriTemplate GET_PAYMENT_URI =
             new UriTemplate("/payments/{paymentId}");
 
-    public ApiClientService(ApiToItemMapper apiToItemMapper, Api apiClient) {
+    public ApiClientService(ApiToItemMapper apiToItemMapper,
+                            Api apiClient,
+                            ItemCache itemCache,
+                            ApiConnections connections,
+                            DownstreamGuard downstreamGuard,
+                            HedgingPolicy hedgingPolicy) {
         this.apiToItemMapper = apiToItemMapper;
         this.apiClient = apiClient;
+        this.itemCache = itemCache;
+        this.connections = connections;
+        this.downstreamGuard = downstreamGuard;
+        this.hedgingPolicy = hedgingPolicy;
     }
 
     /**
-     * Gets an item from a remote API by sending it a get item HTTP GET request.
+     * Gets an item from a remote API by sending it a get item HTTP GET request, unless it has already been resolved
+     * while handling the current HTTP request, or a fresh copy of it is held in the {@link ItemCache}.
      * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
      * @param itemUri the URI path representing the item (and implicitly the type of item) sought
      * @return the item (either a {@link Certificate}, or a {@link CertifiedCopy})
@@ -40,29 +64,50 @@ public class ApiClientService {
      * @throws IOException
      */
     public Item getItem(String passthroughHeader, String itemUri) throws ApiErrorResponseException, IOException {
-        final BaseItemApi baseItemApi;
+        return ItemResolutionContext.resolve(itemUri, () -> loadItem(passthroughHeader, itemUri));
+    }
+
+    private Item loadItem(String passthroughHeader, String itemUri) throws ApiErrorResponseException, IOException {
+        final Optional<BaseItemApi> cachedItem = itemCache.get(passthroughHeader, itemUri);
+        final Item item;
+        if (cachedItem.isPresent()) {
+            item = apiToItemMapper.apiToItem(cachedItem.get());
+        } else {
+            final BaseItemApi baseItemApi = retrieveItem(passthroughHeader, itemUri);
+            item = apiToItemMapper.apiToItem(baseItemApi);
+            itemCache.put(passthroughHeader, itemUri, baseItemApi, item.getEtag());
+        }
+        item.setItemUri(itemUri);
+        item.setStatus(ItemStatus.UNKNOWN);
+        return item;
+    }
+
+    /**
+     * Retrieves an item from the items API, recording how long it took to do so for the {@link HedgingPolicy}.
+     */
+    private BaseItemApi retrieveItem(String passthroughHeader, String itemUri)
+            throws ApiErrorResponseException, IOException {
         try {
-            baseItemApi = apiClient
+            final long start = System.nanoTime();
+            final BaseItemApi item = callDownstream(Downstream.ITEMS, () -> apiClient
                     .getInternalApiClient(passthroughHeader)
                     .privateItemResourceHandler()
                     .getItem(itemUri)
                     .execute()
-                    .getData();
+                    .getData());
+            hedgingPolicy.recordLatency(Duration.ofNanos(System.nanoTime() - start));
+            return item;
         } catch (URIValidationException uve) {
             throw new ServiceException("Unrecognised uri pattern for " + itemUri);
         }
-
-        final Item item = apiToItemMapper.apiToItem(baseItemApi);
-        item.setItemUri(itemUri);
-        item.setStatus(ItemStatus.UNKNOWN);
-        return item;
     }
 
     public PaymentApi getPaymentSummary(String passthroughHeader, String paymentId) throws IOException {
 
         try {
             String uri = GET_PAYMENT_URI.expand(paymentId).toString();
-            return apiClient.getPublicApiClient(passthroughHeader).payment().get(uri).execute().getData();
+            return callDownstream(Downstream.PAYMENTS,
+                    () -> apiClient.getPublicApiClient(passthroughHeader).payment().get(uri).execute().getData());
         } catch (ApiErrorResponseException ex) {
             throw new ServiceException("Error retrieving payments session for " + paymentId + ", Error response: " + ex.getStatusCode());
         } catch (URIValidationException ex) {
@@ -70,4 +115,35 @@ public class ApiClientService {
         }
     }
 
+    /**
+     * Makes a call to a downstream API, provided the {@link DownstreamGuard} permits it.
+     * @param downstream the API to be called
+     * @param call the call
+     * @param <T> the type of the data returned by the API
+     * @return the data returned by the API
+     * @throws ApiErrorResponseException should there be a 4xx or 5xx response from the API
+     * @throws IOException should the API not be reachable
+     * @throws URIValidationException should the URI called not be valid
+     */
+    private <T> T callDownstream(Downstream downstream, DownstreamCall<T> call)
+            throws ApiErrorResponseException, IOException, URIValidationException {
+        downstreamGuard.enter(downstream);
+        connections.acquire();
+        Throwable failure = null;
+        try {
+            return call.call();
+        } catch (IOException | RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            connections.release();
+            downstreamGuard.exit(downstream, failure);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DownstreamCall<T> {
+        T call() throws ApiErrorResponseException, IOException, URIValidationException;
+    }
+
 }
@@ -0,0 +1,256 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.client.HedgingPolicy;
+import uk.gov.companieshouse.orders.api.exception.ServiceException;
+import uk.gov.companieshouse.orders.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.Item;
+import uk.gov.companieshouse.orders.api.util.NamedThreadFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Non-blocking counterpart to {@link ApiClientService}. Each call is run on a dedicated, bounded pool of threads and
+ * returns straight away with a {@link CompletableFuture}, so that callers may overlap independent remote calls with
+ * each other and with their own work. Every call is given a deadline: should the remote API not respond within it,
+ * the future fails with a {@link ServiceUnavailableException}. Calls that cannot be queued because the pool is
+ * saturated fail immediately in the same way.
+ * <p>
+ * The deadline frees the caller, not the pool. A call still queued when its deadline passes is dropped, but one
+ * already running is left to finish: the SDK's blocking reads do not respond to interruption, so its thread stays
+ * busy until the response arrives or the SDK's own read timeout expires. The pool must therefore be sized for calls
+ * lasting that long when the remote APIs are slow. For the same reason, cancelling a future does not stop its call,
+ * so a call should only be started once it is known that its outcome will be needed.
+ */
+@Service
+public class AsyncApiClientService implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String METRIC_PREFIX = "orders.api.client.executor";
+
+    private final ApiClientService apiClientService;
+    private final HedgingPolicy hedgingPolicy;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService deadlineTimer;
+    private final Duration itemTimeout;
+    private final Duration paymentTimeout;
+    private final int maxParallelItems;
+
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public AsyncApiClientService(
+            final ApiClientService apiClientService,
+            final HedgingPolicy hedgingPolicy,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.pool-size:20}") int poolSize,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.queue-capacity:100}") int queueCapacity,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.item-timeout-millis:5000}")
+                    long itemTimeoutMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.payment-timeout-millis:5000}")
+                    long paymentTimeoutMillis,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.max-parallel-items:5}") int maxParallelItems,
+            final MeterRegistry registry) {
+        this.apiClientService = apiClientService;
+        this.hedgingPolicy = hedgingPolicy;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("api-client-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.deadlineTimer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("api-client-deadline-"));
+        this.itemTimeout = Duration.ofMillis(itemTimeoutMillis);
+        this.paymentTimeout = Duration.ofMillis(paymentTimeoutMillis);
+        this.maxParallelItems = maxParallelItems;
+
+        rejected = registry.counter(METRIC_PREFIX + ".rejected");
+        timedOut = registry.counter(METRIC_PREFIX + ".timed.out");
+        registry.gauge(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount);
+        registry.gauge(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * Gets an item from the items API asynchronously. The item is resolved at most once per HTTP request, however
+     * many times it is asked for. Should hedging be enabled, a request not answered within the hedging delay is
+     * repeated, and whichever of the two requests succeeds first supplies the item.
+     * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
+     * @param itemUri the URI path representing the item (and implicitly the type of item) sought
+     * @return the future item
+     */
+    public CompletableFuture<Item> getItem(final String passthroughHeader, final String itemUri) {
+        return ItemResolutionContext.resolveAsync(itemUri, () -> retrieveItem(passthroughHeader, itemUri));
+    }
+
+    /**
+     * Gets a number of items from the items API asynchronously, retrieving no more than a configured number of them in
+     * parallel on behalf of the caller.
+     * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
+     * @param itemUris the URI paths representing the items sought
+     * @return the future items, in the same order as their URIs, failing should any one of them not be retrieved
+     */
+    public CompletableFuture<List<Item>> getItems(final String passthroughHeader, final List<String> itemUris) {
+        return BoundedFanOut.map(itemUris, maxParallelItems, itemUri -> getItem(passthroughHeader, itemUri));
+    }
+
+    /**
+     * Gets a payment session from the payments API asynchronously.
+     * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
+     * @param paymentId the ID of the payment session sought
+     * @return the future payment session
+     */
+    public CompletableFuture<PaymentApi> getPaymentSummary(final String passthroughHeader, final String paymentId) {
+        return submit(() -> apiClientService.getPaymentSummary(passthroughHeader, paymentId), paymentTimeout,
+                "payment " + paymentId);
+    }
+
+    /**
+     * Waits for the outcome of a call started by this service, rethrowing whatever caused it to fail.
+     * @param future the future outcome of the call
+     * @param <T> the type of the outcome
+     * @return the outcome
+     * @throws ApiErrorResponseException should the remote API have responded with a 4xx or 5xx status
+     * @throws IOException should the remote API not have been reachable
+     */
+    public static <T> T await(final CompletableFuture<T> future) throws ApiErrorResponseException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for response from remote API");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof ApiErrorResponseException) {
+                throw (ApiErrorResponseException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ServiceException("Call to remote API failed: " + cause);
+        }
+    }
+
+    private CompletableFuture<Item> retrieveItem(final String passthroughHeader, final String itemUri) {
+        final Optional<Duration> hedgeDelay = hedgingPolicy.onRequest();
+        final CompletableFuture<Item> primary = submitItemRequest(passthroughHeader, itemUri);
+        if (!hedgeDelay.isPresent()) {
+            return primary;
+        }
+
+        final CompletableFuture<Item> result = new CompletableFuture<>();
+        final AtomicInteger outstanding = new AtomicInteger(1);
+        primary.whenComplete((item, failure) -> completeHedged(result, outstanding, item, failure, false));
+        final ScheduledFuture<?> hedge = deadlineTimer.schedule(() -> {
+            if (result.isDone() || !hedgingPolicy.tryAcquireHedge()) {
+                return;
+            }
+            outstanding.incrementAndGet();
+            submitItemRequest(passthroughHeader, itemUri)
+                    .whenComplete((item, failure) -> completeHedged(result, outstanding, item, failure, true));
+        }, hedgeDelay.get().toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((item, failure) -> hedge.cancel(false));
+        return result;
+    }
+
+    /**
+     * Completes the outcome of a hedged item request with the first item retrieved, or with the failure of the last
+     * of the requests made should none of them succeed.
+     */
+    private void completeHedged(final CompletableFuture<Item> result,
+                                final AtomicInteger outstanding,
+                                final Item item,
+                                final Throwable failure,
+                                final boolean hedge) {
+        final boolean last = outstanding.decrementAndGet() == 0;
+        if (failure == null) {
+            if (result.complete(item) && hedge) {
+                hedgingPolicy.onHedgeWon();
+            }
+        } else if (last) {
+            result.completeExceptionally(failure);
+        }
+    }
+
+    private CompletableFuture<Item> submitItemRequest(final String passthroughHeader, final String itemUri) {
+        // The latency is recorded by the service itself, around the remote call alone, so that items served from the
+        // cache do not drag the hedging delay down
+        return submit(() -> apiClientService.getItem(passthroughHeader, itemUri), itemTimeout, "item " + itemUri);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        deadlineTimer.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(final Callable<T> call, final Duration deadline, final String subject) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Throwable failure) {
+                    result.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            rejected.increment();
+            final ServiceUnavailableException failure =
+                    new ServiceUnavailableException("Too many calls to remote APIs in progress to retrieve " + subject);
+            logFailure("Remote API call rejected", failure);
+            result.completeExceptionally(failure);
+            return result;
+        }
+        final ScheduledFuture<?> timeout = deadlineTimer.schedule(() -> {
+            final ServiceUnavailableException failure =
+                    new ServiceUnavailableException("Timed out after " + deadline.toMillis() + "ms retrieving " + subject);
+            if (result.completeExceptionally(failure)) {
+                timedOut.increment();
+                logFailure("Remote API call timed out", failure);
+                // Only stops a call that has yet to start; interrupting one in progress would not stop its read
+                task.cancel(false);
+            }
+        }, deadline.toMillis(), MILLISECONDS);
+        result.whenComplete((outcome, failure) -> timeout.cancel(false));
+        return result;
+    }
+
+    private static void logFailure(final String message, final ServiceException failure) {
+        final Map<String, Object> logMap = LoggingUtils.createLogMap();
+        logMap.put(LoggingUtils.EXCEPTION, failure.getMessage());
+        LOGGER.error(message, logMap);
+    }
+}
@@ -0,0 +1,173 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Serves the items held in baskets from the snapshots stored with them, so that reading a basket does not ordinarily
+ * require a call to the items API.
+ * <p>
+ * A snapshot younger than the freshness window is served as is. An older snapshot still within the staleness window
+ * is served too, while a fresh copy of the item is fetched in the background and stored in the basket for next time.
+ * Beyond that, or where the basket holds no snapshot, the item is fetched and stored before being served.
+ */
+@Service
+public class BasketItemService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String METRIC_NAME = "orders.api.basket.item.snapshots";
+
+    private final AsyncApiClientService asyncApiClientService;
+    private final BasketService basketService;
+    private final Duration freshFor;
+    private final Duration servableFor;
+    private final int maxParallelItems;
+    private final Clock clock;
+    private final Set<String> refreshesInProgress = ConcurrentHashMap.newKeySet();
+
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter missing;
+
+    @Autowired
+    public BasketItemService(
+            final AsyncApiClientService asyncApiClientService,
+            final BasketService basketService,
+            final @Value("${uk.gov.companieshouse.orders.api.basket.item-snapshot.fresh-seconds:60}") long freshSeconds,
+            final @Value("${uk.gov.companieshouse.orders.api.basket.item-snapshot.stale-seconds:600}") long staleSeconds,
+            final @Value("${uk.gov.companieshouse.orders.api.client.async.max-parallel-items:5}") int maxParallelItems,
+            final MeterRegistry registry) {
+        this(asyncApiClientService, basketService, Duration.ofSeconds(freshSeconds), Duration.ofSeconds(staleSeconds),
+                maxParallelItems, registry, Clock.systemDefaultZone());
+    }
+
+    BasketItemService(final AsyncApiClientService asyncApiClientService,
+                      final BasketService basketService,
+                      final Duration freshFor,
+                      final Duration staleFor,
+                      final int maxParallelItems,
+                      final MeterRegistry registry,
+                      final Clock clock) {
+        this.asyncApiClientService = asyncApiClientService;
+        this.basketService = basketService;
+        this.freshFor = freshFor;
+        this.servableFor = freshFor.plus(staleFor);
+        this.maxParallelItems = maxParallelItems;
+        this.clock = clock;
+
+        fresh = registry.counter(METRIC_NAME, "outcome", "fresh");
+        stale = registry.counter(METRIC_NAME, "outcome", "stale");
+        missing = registry.counter(METRIC_NAME, "outcome", "missing");
+    }
+
+    /**
+     * Records that the item has just been retrieved from the items API, making it a snapshot fit to be stored in a
+     * basket.
+     * @param item the item retrieved
+     * @return the same item, as a snapshot
+     */
+    public Item snapshot(final Item item) {
+        item.setFetchedAt(LocalDateTime.now(clock));
+        return item;
+    }
+
+    /**
+     * Gets the up to date item for the item held in the basket.
+     * @param basketId the ID of the basket
+     * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
+     * @param basketItem the item as held in the basket
+     * @return the future item, already complete if the basket's snapshot of the item can be served
+     */
+    public CompletableFuture<Item> getItem(final String basketId,
+                                           final String passthroughHeader,
+                                           final Item basketItem) {
+        final LocalDateTime fetchedAt = basketItem.getFetchedAt();
+        if (fetchedAt != null) {
+            final Duration age = Duration.between(fetchedAt, LocalDateTime.now(clock));
+            if (age.compareTo(freshFor) < 0) {
+                fresh.increment();
+                return completedFuture(basketItem);
+            }
+            if (age.compareTo(servableFor) < 0) {
+                stale.increment();
+                revalidate(basketId, passthroughHeader, basketItem.getItemUri());
+                return completedFuture(basketItem);
+            }
+        }
+        missing.increment();
+        return refresh(basketId, passthroughHeader, basketItem.getItemUri());
+    }
+
+    /**
+     * Gets the up to date items for all of the items held in the basket, retrieving no more than a configured number
+     * of them from the items API in parallel.
+     * @param basketId the ID of the basket
+     * @param passthroughHeader the eric access token header to pass through as auth for api to api communication
+     * @param basketItems the items as held in the basket
+     * @return the future items, in basket order, failing should any one of them not be retrieved
+     */
+    public CompletableFuture<List<Item>> getItems(final String basketId,
+                                                  final String passthroughHeader,
+                                                  final List<Item> basketItems) {
+        return BoundedFanOut.map(basketItems, maxParallelItems,
+                basketItem -> getItem(basketId, passthroughHeader, basketItem));
+    }
+
+    private void revalidate(final String basketId, final String passthroughHeader, final String itemUri) {
+        final String refreshKey = basketId + " " + itemUri;
+        if (!refreshesInProgress.add(refreshKey)) {
+            return;
+        }
+        refresh(basketId, passthroughHeader, itemUri).whenComplete((item, failure) -> {
+            refreshesInProgress.remove(refreshKey);
+            if (failure != null) {
+                final Map<String, Object> logMap = LoggingUtils.createLogMap();
+                logMap.put(LoggingUtils.BASKET_ID, basketId);
+                logMap.put(LoggingUtils.ITEM_URI, itemUri);
+                logMap.put(LoggingUtils.EXCEPTION, failure.getMessage());
+                LOGGER.error("Failed to refresh stale basket item snapshot", logMap);
+            }
+        });
+    }
+
+    private CompletableFuture<Item> refresh(final String basketId,
+                                            final String passthroughHeader,
+                                            final String itemUri) {
+        return asyncApiClientService.getItem(passthroughHeader, itemUri).thenApply(item -> {
+            if (item == null) {
+                return null;
+            }
+            try {
+                basketService.saveItemSnapshot(basketId, snapshot(item));
+            } catch (RuntimeException ex) {
+                // The item is still good to serve, it just will not be found in the basket next time.
+                final Map<String, Object> logMap = LoggingUtils.createLogMap();
+                logMap.put(LoggingUtils.BASKET_ID, basketId);
+                logMap.put(LoggingUtils.ITEM_URI, itemUri);
+                logMap.put(LoggingUtils.EXCEPTION, ex.getMessage());
+                LOGGER.error("Failed to store basket item snapshot", logMap);
+            }
+            return item;
+        });
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.orders.api.service;
 
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.repository.BasketRepository;
 
 import java.time.LocalDateTime;
@@ -35,4 +36,8 @@ public class BasketService {
     public Basket clearBasket(String id) {
         return repository.clearBasketDataById(id);
     }
+
+    public void saveItemSnapshot(String id, Item item) {
+        repository.updateItem(id, item);
+    }
 }
@@ -0,0 +1,119 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Starts an asynchronous call for each of a number of inputs, keeping no more than a fixed number of the calls in
+ * progress at any one time, so that a single request cannot monopolise the threads making remote calls. A further
+ * call is started each time one completes. Should any call fail, no further calls are started and the combined
+ * outcome fails with the same cause.
+ * <p>
+ * The calls started as others complete run on whichever thread completed them, so the attributes of the HTTP request
+ * being handled when the fan-out began are made available to them, as they would have been to the calls started
+ * straight away.
+ */
+final class BoundedFanOut<T, R> {
+
+    private final List<T> inputs;
+    private final Function<T, CompletableFuture<R>> call;
+    private final RequestAttributes requestAttributes;
+    private final AtomicReferenceArray<R> results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger outstanding;
+    private final CompletableFuture<List<R>> outcome = new CompletableFuture<>();
+
+    private BoundedFanOut(final List<T> inputs, final Function<T, CompletableFuture<R>> call) {
+        this.inputs = inputs;
+        this.call = call;
+        this.requestAttributes = RequestContextHolder.getRequestAttributes();
+        this.results = new AtomicReferenceArray<>(inputs.size());
+        this.outstanding = new AtomicInteger(inputs.size());
+    }
+
+    /**
+     * Makes the call for each input, no more than <code>maxParallel</code> at a time.
+     * @param inputs the inputs to the calls
+     * @param maxParallel the greatest number of calls to have in progress at once
+     * @param call starts the call for a single input
+     * @param <T> the type of the inputs
+     * @param <R> the type of the outcome of each call
+     * @return the future outcomes of the calls, in the same order as the inputs
+     */
+    static <T, R> CompletableFuture<List<R>> map(final List<T> inputs,
+                                                 final int maxParallel,
+                                                 final Function<T, CompletableFuture<R>> call) {
+        if (maxParallel < 1) {
+            throw new IllegalArgumentException("Maximum number of parallel calls must be at least 1!");
+        }
+        final BoundedFanOut<T, R> fanOut = new BoundedFanOut<>(inputs, call);
+        if (inputs.isEmpty()) {
+            fanOut.outcome.complete(new ArrayList<>());
+        }
+        for (int lane = 0; lane < Math.min(maxParallel, inputs.size()); lane++) {
+            fanOut.startNext();
+        }
+        return fanOut.outcome;
+    }
+
+    private void startNext() {
+        if (outcome.isDone()) {
+            return;
+        }
+        final int index = next.getAndIncrement();
+        if (index >= inputs.size()) {
+            return;
+        }
+        startCall(index).whenComplete((result, failure) -> {
+            if (failure != null) {
+                outcome.completeExceptionally(failure);
+                return;
+            }
+            results.set(index, result);
+            if (outstanding.decrementAndGet() == 0) {
+                outcome.complete(collectResults());
+            } else {
+                withRequestAttributes(this::startNext);
+            }
+        });
+    }
+
+    private CompletableFuture<R> startCall(final int index) {
+        try {
+            return call.apply(inputs.get(index));
+        } catch (RuntimeException ex) {
+            final CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+    }
+
+    private void withRequestAttributes(final Runnable action) {
+        final RequestAttributes current = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null || current == requestAttributes) {
+            action.run();
+            return;
+        }
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            action.run();
+        } finally {
+            RequestContextHolder.setRequestAttributes(current);
+        }
+    }
+
+    private List<R> collectResults() {
+        final List<R> collected = new ArrayList<>(results.length());
+        for (int index = 0; index < results.length(); index++) {
+            collected.add(results.get(index));
+        }
+        return collected;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.orders.api.service;
 
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.orders.api.exception.ConflictException;
 import uk.gov.companieshouse.orders.api.model.*;
 import uk.gov.companieshouse.orders.api.repository.CheckoutRepository;
 import uk.gov.companieshouse.orders.api.util.CheckoutHelper;
@@ -41,7 +42,7 @@ public class CheckoutService {
         return "ORD-" + String.join("-", tranId);
     }
 
-    public Checkout createCheckout(Item item, String userId, String email, DeliveryDetails deliveryDetails) {
+    public Checkout createCheckout(List<Item> items, String userId, String email, DeliveryDetails deliveryDetails) {
         final LocalDateTime now = LocalDateTime.now();
         String checkoutId = autoGenerateId();
 
@@ -58,7 +59,7 @@ public class CheckoutService {
         checkout.getData().setStatus(PaymentStatus.PENDING);
         checkout.getData().setEtag(etagGeneratorService.generateEtag());
         checkout.getData().setLinks(linksGeneratorService.generateCheckoutLinks(checkoutId));
-        checkout.getData().getItems().add(item);
+        checkout.getData().getItems().addAll(items);
         checkout.getData().setReference(checkoutId);
         checkout.getData().setKind("order");
         checkout.getData().setDeliveryDetails(deliveryDetails);
@@ -72,6 +73,16 @@ public class CheckoutService {
         return checkoutRepository.findById(id);
     }
 
+    /**
+     * Gets the checkout for the presentation of its payment details, possibly from a secondary. Use
+     * {@link #getCheckoutById(String)} to get a checkout that is to be updated.
+     * @param id the ID of the checkout
+     * @return the checkout, or empty if it is not found
+     */
+    public Optional<Checkout> getCheckoutForPaymentDetails(String id) {
+        return checkoutRepository.findByIdForPaymentDetails(id);
+    }
+
     /**
      * Saves the checkout, assumed to have been updated, to the database.
      * @param updatedCheckout the certificate item to save
@@ -83,4 +94,22 @@ public class CheckoutService {
         updatedCheckout.getData().setEtag(etagGeneratorService.generateEtag());
         return checkoutRepository.save(updatedCheckout);
     }
+
+    /**
+     * Writes the payment details of the checkout, assumed to have been updated, to the database. Only the payment
+     * details, the etag and the time the checkout was last updated are written, and only if the stored checkout has
+     * not been updated since the checkout provided was read from it.
+     * @param updatedCheckout the checkout holding the updated payment details
+     * @return the latest checkout state resulting from the update
+     * @throws ConflictException should the stored checkout have been updated since it was read
+     */
+    public Checkout updatePaymentDetails(final Checkout updatedCheckout) {
+        final String expectedEtag = updatedCheckout.getData().getEtag();
+        updatedCheckout.setUpdatedAt(LocalDateTime.now());
+        updatedCheckout.getData().setEtag(etagGeneratorService.generateEtag());
+        if (!checkoutRepository.updatePaymentDetails(updatedCheckout, expectedEtag)) {
+            throw new ConflictException("Checkout " + updatedCheckout.getId() + " has been updated by another request.");
+        }
+        return updatedCheckout;
+    }
 }
@@ -0,0 +1,153 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.order.item.BaseItemApi;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded, in-process cache of the items retrieved from the items API, keyed by item URI. Each entry holds the item
+ * as returned by the API together with its etag. The API representation rather than the mapped
+ * {@link uk.gov.companieshouse.orders.api.model.Item} is held so that every caller receives its own freshly mapped
+ * instance.
+ * <p>
+ * An entry is only served to a caller presenting the same passthrough header as the one the item was fetched with,
+ * so that the items API remains responsible for deciding who may see an item. Once an entry's time to live has
+ * elapsed it is revalidated by the next lookup: the item is fetched again and the etag compared.
+ */
+@Component
+public class ItemCache {
+
+    private static final String METRIC_PREFIX = "orders.api.item.cache";
+
+    private final boolean enabled;
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter unchanged;
+    private final Counter changed;
+
+    @Autowired
+    public ItemCache(final @Value("${uk.gov.companieshouse.orders.api.item-cache.enabled:true}") boolean enabled,
+                     final @Value("${uk.gov.companieshouse.orders.api.item-cache.max-size:1000}") int maximumSize,
+                     final @Value("${uk.gov.companieshouse.orders.api.item-cache.ttl-seconds:60}") long ttlSeconds,
+                     final MeterRegistry registry) {
+        this(enabled, maximumSize, Duration.ofSeconds(ttlSeconds), registry, Clock.systemUTC());
+    }
+
+    ItemCache(final boolean enabled,
+              final int maximumSize,
+              final Duration timeToLive,
+              final MeterRegistry registry,
+              final Clock clock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Item cache maximum size must be at least 1!");
+        }
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > ItemCache.this.maximumSize;
+            }
+        };
+
+        hits = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "hit").register(registry);
+        misses = Counter.builder(METRIC_PREFIX + ".gets").tag("result", "miss").register(registry);
+        unchanged = Counter.builder(METRIC_PREFIX + ".revalidations").tag("outcome", "unchanged").register(registry);
+        changed = Counter.builder(METRIC_PREFIX + ".revalidations").tag("outcome", "changed").register(registry);
+        registry.gauge(METRIC_PREFIX + ".size", this, ItemCache::size);
+    }
+
+    /**
+     * Looks up a fresh cached item.
+     * @param passthroughHeader the eric passthrough header of the caller
+     * @param itemUri the URI path representing the item
+     * @return the cached item, or {@link Optional#empty()} if it is not cached, has expired, or was fetched on
+     * behalf of a different caller
+     */
+    public synchronized Optional<BaseItemApi> get(final String passthroughHeader, final String itemUri) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final Entry entry = entries.get(itemUri);
+        if (entry == null
+                || !Objects.equals(entry.passthroughHeader, passthroughHeader)
+                || !clock.instant().isBefore(entry.expiresAt)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.item);
+    }
+
+    /**
+     * Stores an item just retrieved from the items API, revalidating any previously cached version of it.
+     * @param passthroughHeader the eric passthrough header the item was retrieved with
+     * @param itemUri the URI path representing the item
+     * @param item the item as returned by the items API
+     * @param etag the etag of the item
+     */
+    public synchronized void put(final String passthroughHeader,
+                                 final String itemUri,
+                                 final BaseItemApi item,
+                                 final String etag) {
+        if (!enabled) {
+            return;
+        }
+        final Entry previous = entries.get(itemUri);
+        if (previous != null) {
+            if (etag != null && etag.equals(previous.etag)) {
+                unchanged.increment();
+            } else {
+                changed.increment();
+            }
+        }
+        entries.put(itemUri, new Entry(passthroughHeader, item, etag, clock.instant().plus(timeToLive)));
+    }
+
+    /**
+     * Removes the item from the cache.
+     * @param itemUri the URI path representing the item
+     */
+    public synchronized void evict(final String itemUri) {
+        entries.remove(itemUri);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final String passthroughHeader;
+        private final BaseItemApi item;
+        private final String etag;
+        private final Instant expiresAt;
+
+        private Entry(final String passthroughHeader,
+                      final BaseItemApi item,
+                      final String etag,
+                      final Instant expiresAt) {
+            this.passthroughHeader = passthroughHeader;
+            this.item = item;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
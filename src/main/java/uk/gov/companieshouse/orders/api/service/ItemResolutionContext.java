@@ -0,0 +1,100 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Memoizes the items resolved while handling the current HTTP request, so that each item URI is fetched at most once
+ * per request however many components (validators, controllers) ask for it. Resolutions still in flight are shared
+ * too, so a synchronous lookup of an item already being fetched asynchronously waits for that fetch rather than
+ * starting another one. Outside of a request every resolution goes straight to the loader.
+ */
+final class ItemResolutionContext {
+
+    private static final String RESOLVED_ITEMS_ATTRIBUTE = ItemResolutionContext.class.getName() + ".resolvedItems";
+
+    /**
+     * Retrieves an item from wherever it is held.
+     */
+    @FunctionalInterface
+    interface ItemLoader {
+        Item load() throws ApiErrorResponseException, IOException;
+    }
+
+    private ItemResolutionContext() { }
+
+    /**
+     * Resolves the item identified, using the loader only if the item has not already been resolved (or started to
+     * be resolved) during the current request.
+     * @param itemUri the URI path representing the item
+     * @param loader the means of retrieving the item should it not have been resolved yet
+     * @return the item
+     * @throws ApiErrorResponseException should the loader receive a 4xx or 5xx response from the API
+     * @throws IOException should the loader fail to reach the API
+     */
+    static Item resolve(final String itemUri, final ItemLoader loader) throws ApiErrorResponseException, IOException {
+        final Map<String, CompletableFuture<Item>> resolvedItems = getResolvedItems();
+        if (resolvedItems == null) {
+            return loader.load();
+        }
+        final CompletableFuture<Item> resolution = resolvedItems.get(itemUri);
+        if (resolution != null) {
+            return AsyncApiClientService.await(resolution);
+        }
+        final Item item = loader.load();
+        resolvedItems.put(itemUri, CompletableFuture.completedFuture(item));
+        return item;
+    }
+
+    /**
+     * Resolves the item identified asynchronously, using the loader only if the item has not already been resolved
+     * (or started to be resolved) during the current request. A failed resolution is forgotten so that it may be
+     * retried.
+     * @param itemUri the URI path representing the item
+     * @param loader the means of starting the retrieval of the item should it not have been resolved yet
+     * @return the future item
+     */
+    static CompletableFuture<Item> resolveAsync(final String itemUri,
+                                                final Supplier<CompletableFuture<Item>> loader) {
+        final Map<String, CompletableFuture<Item>> resolvedItems = getResolvedItems();
+        if (resolvedItems == null) {
+            return loader.get();
+        }
+        final CompletableFuture<Item> resolution = resolvedItems.computeIfAbsent(itemUri, uri -> loader.get());
+        resolution.whenComplete((item, failure) -> {
+            if (failure != null) {
+                resolvedItems.remove(itemUri, resolution);
+            }
+        });
+        return resolution;
+    }
+
+    /**
+     * Gets the items resolved so far during the current request.
+     * @return the item resolutions keyed by item URI, or <code>null</code> if there is no current request
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, CompletableFuture<Item>> getResolvedItems() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, CompletableFuture<Item>> resolvedItems =
+                (Map<String, CompletableFuture<Item>>) attributes.getAttribute(RESOLVED_ITEMS_ATTRIBUTE, SCOPE_REQUEST);
+        if (resolvedItems == null) {
+            resolvedItems = new ConcurrentHashMap<>();
+            attributes.setAttribute(RESOLVED_ITEMS_ATTRIBUTE, resolvedItems, SCOPE_REQUEST);
+        }
+        return resolvedItems;
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import uk.gov.companieshouse.orders.api.model.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Marks the position of an order in a user's order history, so that the next page can be read from just beyond it.
+ * Orders are listed by time of creation, most recent first, with the order ID breaking any ties. The cursor given to
+ * the client is opaque: the time and ID, URL safe Base64 encoded.
+ */
+final class OrderHistoryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String orderId;
+
+    private OrderHistoryCursor(final LocalDateTime createdAt, final String orderId) {
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+    }
+
+    static OrderHistoryCursor after(final Order order) {
+        return new OrderHistoryCursor(order.getCreatedAt(), order.getId());
+    }
+
+    /**
+     * Decodes the cursor provided by the client.
+     * @param encoded the encoded cursor
+     * @return the cursor
+     * @throws IllegalArgumentException should the cursor not be one encoded by {@link #encode()}
+     */
+    static OrderHistoryCursor decode(final String encoded) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            final int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor " + encoded + ".");
+            }
+            return new OrderHistoryCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor " + encoded + ".", ex);
+        }
+    }
+
+    String encode() {
+        final String decoded = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    String getOrderId() {
+        return orderId;
+    }
+}
@@ -2,22 +2,27 @@ package uk.gov.companieshouse.orders.api.service;
 
 import com.mongodb.MongoException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
-import uk.gov.companieshouse.orders.OrderReceived;
+import uk.gov.companieshouse.orders.api.dto.OrderHistoryDTO;
 import uk.gov.companieshouse.orders.api.exception.ForbiddenException;
 import uk.gov.companieshouse.orders.api.exception.MongoOperationException;
-import uk.gov.companieshouse.orders.api.kafka.OrderReceivedMessageProducer;
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
 import uk.gov.companieshouse.orders.api.mapper.CheckoutToOrderMapper;
 import uk.gov.companieshouse.orders.api.model.Checkout;
 import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+import uk.gov.companieshouse.orders.api.model.OutboxStatus;
 import uk.gov.companieshouse.orders.api.repository.OrderRepository;
+import uk.gov.companieshouse.orders.api.repository.OutboxRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
@@ -29,21 +34,28 @@ public class OrderService {
     private final CheckoutToOrderMapper mapper;
     private final OrderRepository repository;
     private final LinksGeneratorService linksGeneratorService;
-    private final OrderReceivedMessageProducer ordersMessageProducer;
+    private final OutboxRepository outboxRepository;
 
     @Value("${uk.gov.companieshouse.orders.api.orders}")
     private String orderEndpointU;
 
+    @Value("${uk.gov.companieshouse.orders.api.order-history.max-page-size:100}")
+    private int orderHistoryMaxPageSize;
+
     public OrderService(final CheckoutToOrderMapper mapper, final OrderRepository repository,
-                        OrderReceivedMessageProducer producer, final LinksGeneratorService linksGeneratorService) {
+                        final OutboxRepository outboxRepository, final LinksGeneratorService linksGeneratorService) {
         this.mapper = mapper;
         this.repository = repository;
-        this.ordersMessageProducer = producer;
+        this.outboxRepository = outboxRepository;
         this.linksGeneratorService = linksGeneratorService;
     }
 
     /**
      * Used to create an order from a checkout object once payment has been successful.
+     * <p>
+     * The order-received notification for the order is recorded in the outbox before the order is saved, and
+     * published to Kafka later by {@link uk.gov.companieshouse.orders.api.kafka.OrderReceivedOutboxRelay}, so that
+     * neither a crash nor a Kafka outage can lose it, and creating the order does not wait on Kafka.
      * @param checkout the user's checkout object
      * @return the resulting order
      */
@@ -57,42 +69,84 @@ public class OrderService {
         mappedOrder.getData().setLinks(linksGeneratorService.generateOrderLinks(mappedOrder.getId()));
 
         LoggingUtils.logIfNotNull(logMap, LoggingUtils.ORDER_ID, mappedOrder.getId());
-        final Optional<Order> order = repository.findById(mappedOrder.getId());
-        order.ifPresent(
-            o -> {
-                   final String message = "Order ID " + o.getId() + " already exists. Will not update.";
-                   LOGGER.error(message, logMap);
-                   throw new ForbiddenException(message);
-            }
-        );
+        recordOrderReceived(mappedOrder, logMap);
 
+        // Inserted rather than saved, so that the unique order ID rather than a prior read prevents duplication
         Order savedOrder = null;
         try {
-            savedOrder = repository.save(mappedOrder);
+            savedOrder = repository.insert(mappedOrder);
+        } catch (DuplicateKeyException ex) {
+            // The record is left as it is: it may be the only one for the order that was saved instead of this one
+            final String message = "Order ID " + mappedOrder.getId() + " already exists. Will not update.";
+            LOGGER.error(message, logMap);
+            throw new ForbiddenException(message, ex);
         } catch (MongoException ex) {
             String errorMessage = String.format("Failed to save order with id %s", mappedOrder.getId());
             LOGGER.error(errorMessage, ex, logMap);
             throw new MongoOperationException(errorMessage, ex);
         }
 
-        LOGGER.info("Publishing notification to Kafka 'order-received' topic for order - " + mappedOrder.getId(), logMap);
-        sendOrderReceivedMessage(mappedOrder.getId());
-
         return savedOrder;
     }
 
     public Optional<Order> getOrder(String id) {
-        return repository.findById(id);
+        return repository.findByIdForLookup(id);
     }
+
     /**
-     * Sends a message to Kafka topic 'order-received'
-     * @param orderId order id
+     * Gets a page of the user's order history, most recent first.
+     * @param userId the ID of the user
+     * @param cursor the <code>next_cursor</code> of the previous page, or <code>null</code> for the first page
+     * @param pageSize the number of orders wanted, capped at the maximum page size
+     * @return the page of orders, and the cursor for the next page, if there is one
+     * @throws IllegalArgumentException should the cursor be invalid
      */
-    private void sendOrderReceivedMessage(String orderId) {
-        String orderURI = orderEndpointU + "/" + orderId;
-        OrderReceived orderReceived = new OrderReceived();
-        orderReceived.setOrderUri(orderURI);
-        ordersMessageProducer.sendMessage(orderId, orderReceived);
+    public OrderHistoryDTO getOrderHistory(final String userId, final String cursor, final int pageSize) {
+        final OrderHistoryCursor after = cursor != null ? OrderHistoryCursor.decode(cursor) : null;
+        final int limit = Math.max(1, Math.min(pageSize, orderHistoryMaxPageSize));
+        // One more than wanted is retrieved to learn whether there is a next page
+        final List<Order> orders = repository.findOrderHistory(userId,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getOrderId() : null,
+                limit + 1);
+        final OrderHistoryDTO history = new OrderHistoryDTO();
+        final List<Order> page = orders.size() > limit ? orders.subList(0, limit) : orders;
+        history.setItems(page.stream().map(Order::getData).collect(Collectors.toList()));
+        if (orders.size() > limit) {
+            history.setNextCursor(OrderHistoryCursor.after(page.get(limit - 1)).encode());
+        }
+        return history;
+    }
+
+    /**
+     * Records the order-received notification for the order in the outbox, for publication to Kafka topic
+     * 'order-received'. Should one already be recorded for the order ID, it is left as it is.
+     * <p>
+     * Should the order then fail to be saved, the record is left for the relay to discard, as the order may yet have
+     * been saved for all that the failure reported. The same goes for an order that is a duplicate, as the record may
+     * have been found to be already recorded by the concurrent creation of the order that was saved.
+     * @param order the order, not yet saved
+     * @param logMap the log map for the order
+     */
+    private void recordOrderReceived(final Order order, final Map<String, Object> logMap) {
+        final OutboxRecord record = new OutboxRecord();
+        record.setId(order.getId());
+        record.setOrderUri(orderEndpointU + "/" + order.getId());
+        record.setStatus(OutboxStatus.PENDING);
+        record.setCreatedAt(order.getCreatedAt());
+        record.setNextAttemptAt(order.getCreatedAt());
+        try {
+            outboxRepository.insert(record);
+        } catch (DuplicateKeyException ex) {
+            LOGGER.info("Order-received notification already recorded for order - " + order.getId(), logMap);
+            return;
+        } catch (MongoException ex) {
+            final String errorMessage =
+                    String.format("Failed to record order-received notification for order with id %s", order.getId());
+            LOGGER.error(errorMessage, ex, logMap);
+            throw new MongoOperationException(errorMessage, ex);
+        }
+        LOGGER.info("Recorded order-received notification for order - " + order.getId(), logMap);
     }
 
     /**
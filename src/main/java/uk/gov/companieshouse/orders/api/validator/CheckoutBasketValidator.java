@@ -4,25 +4,28 @@ import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.orders.api.exception.ErrorType;
+import uk.gov.companieshouse.orders.api.exception.ServiceUnavailableException;
 import uk.gov.companieshouse.orders.api.logging.LoggingUtils;
 import uk.gov.companieshouse.orders.api.model.Basket;
 import uk.gov.companieshouse.orders.api.model.Item;
-import uk.gov.companieshouse.orders.api.service.ApiClientService;
+import uk.gov.companieshouse.orders.api.service.AsyncApiClientService;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
 
 @Component
 public class CheckoutBasketValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
-    private ApiClientService apiClientService;
+    private AsyncApiClientService asyncApiClientService;
     private DeliveryDetailsValidator deliveryDetailsValidator;
 
-    public CheckoutBasketValidator(ApiClientService apiClientService, DeliveryDetailsValidator deliveryDetailsValidator) {
-        this.apiClientService = apiClientService;
+    public CheckoutBasketValidator(AsyncApiClientService asyncApiClientService,
+                                   DeliveryDetailsValidator deliveryDetailsValidator) {
+        this.asyncApiClientService = asyncApiClientService;
         this.deliveryDetailsValidator = deliveryDetailsValidator;
     }
 
@@ -35,19 +38,22 @@ public class CheckoutBasketValidator {
             errors.add(ErrorType.BASKET_ITEMS_MISSING.getValue());
         }
         else {
-            String itemUri = "";
             try {
-                Item item = basketItems.get(0);
-                itemUri = item.getItemUri();
-                LoggingUtils.logIfNotNull(logMap, LoggingUtils.ITEM_URI, itemUri);
+                final List<String> itemUris = basketItems.stream().map(Item::getItemUri).collect(Collectors.toList());
+                logMap.put(LoggingUtils.ITEM_URI, itemUris);
 
-                item = apiClientService.getItem(passthroughHeader, itemUri);
+                // Joins any retrieval of the items already in progress for this request
+                final List<Item> items =
+                        AsyncApiClientService.await(asyncApiClientService.getItems(passthroughHeader, itemUris));
 
-                if (item.isPostalDelivery() && !deliveryDetailsValidator.isValid(basket.getData().getDeliveryDetails())) {
+                final boolean postalDelivery = items.stream().anyMatch(Item::isPostalDelivery);
+                if (postalDelivery && !deliveryDetailsValidator.isValid(basket.getData().getDeliveryDetails())) {
                     logMap.put(LoggingUtils.ERROR_TYPE, ErrorType.DELIVERY_DETAILS_MISSING.getValue());
                     LOGGER.error(ErrorType.DELIVERY_DETAILS_MISSING.getValue(), logMap);
                     errors.add(ErrorType.DELIVERY_DETAILS_MISSING.getValue());
                 }
+            } catch (ServiceUnavailableException unavailable) {
+                throw unavailable;
             } catch (Exception exception) {
                 logMap.put(LoggingUtils.EXCEPTION, exception);
                 logMap.put(LoggingUtils.ERROR_TYPE, ErrorType.BASKET_ITEM_INVALID.getValue());
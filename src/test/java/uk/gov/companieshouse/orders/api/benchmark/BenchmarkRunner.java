@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.orders.api.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks found on the test classpath (see <code>make benchmark</code>), reporting the allocation
+ * per operation of each alongside its timings.
+ * <p>
+ * Each argument given is a regular expression selecting the benchmarks to run; all of them are run if none is given.
+ */
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include(".*Benchmark\\.");
+        }
+        for (final String benchmarks : args) {
+            options.include(benchmarks);
+        }
+        new Runner(options.build()).run();
+    }
+}
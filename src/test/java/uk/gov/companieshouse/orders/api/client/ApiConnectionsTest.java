@@ -0,0 +1,29 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link ApiConnections} class.
+ */
+class ApiConnectionsTest {
+
+    @Test
+    @DisplayName("Reports the number of requests in flight")
+    void reportsRequestsInFlight() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final ApiConnections connectionsUnderTest = new ApiConnections(registry);
+
+        connectionsUnderTest.acquire();
+        connectionsUnderTest.acquire();
+        connectionsUnderTest.acquire();
+        connectionsUnderTest.release();
+
+        assertThat(registry.get("orders.api.client.requests.in.flight").gauge().value(), is(2.0));
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.orders.api.exception.ServiceUnavailableException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.companieshouse.orders.api.client.CircuitBreaker.State.CLOSED;
+import static uk.gov.companieshouse.orders.api.client.CircuitBreaker.State.HALF_OPEN;
+import static uk.gov.companieshouse.orders.api.client.CircuitBreaker.State.OPEN;
+import static uk.gov.companieshouse.orders.api.client.Downstream.ITEMS;
+import static uk.gov.companieshouse.orders.api.client.Downstream.PAYMENTS;
+
+/**
+ * Unit tests the {@link DownstreamGuard} class.
+ */
+class DownstreamGuardTest {
+
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int MAX_CONCURRENT_CALLS = 2;
+
+    private MeterRegistry registry;
+    private MutableClock clock;
+    private DownstreamGuard guardUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        guardUnderTest = new DownstreamGuard(FAILURE_THRESHOLD, OPEN_DURATION, MAX_CONCURRENT_CALLS, registry, clock);
+    }
+
+    @Test
+    @DisplayName("The circuit opens after consecutive failures and then fails calls fast")
+    void circuitOpensAfterConsecutiveFailures() {
+        failCall(ITEMS);
+        failCall(ITEMS);
+
+        assertThat(guardUnderTest.getState(ITEMS), is(OPEN));
+        assertThrows(ServiceUnavailableException.class, () -> guardUnderTest.enter(ITEMS));
+        assertThat(registry.get("orders.api.client.rejections")
+                .tag("downstream", "items").tag("reason", "circuit-open").counter().count(), is(1.0));
+        assertThat(registry.get("orders.api.client.circuit.state")
+                .tag("downstream", "items").gauge().value(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("An open circuit does not affect other downstream APIs")
+    void openCircuitIsolatedToDownstream() {
+        failCall(ITEMS);
+        failCall(ITEMS);
+
+        guardUnderTest.enter(PAYMENTS);
+        guardUnderTest.exit(PAYMENTS, null);
+
+        assertThat(guardUnderTest.getState(PAYMENTS), is(CLOSED));
+    }
+
+    @Test
+    @DisplayName("The circuit permits a single trial call once open period has elapsed, closing if it succeeds")
+    void circuitClosesAfterSuccessfulTrial() {
+        failCall(ITEMS);
+        failCall(ITEMS);
+        clock.advance(OPEN_DURATION);
+
+        guardUnderTest.enter(ITEMS);
+        assertThat(guardUnderTest.getState(ITEMS), is(HALF_OPEN));
+        assertThrows(ServiceUnavailableException.class, () -> guardUnderTest.enter(ITEMS));
+        guardUnderTest.exit(ITEMS, null);
+
+        assertThat(guardUnderTest.getState(ITEMS), is(CLOSED));
+    }
+
+    @Test
+    @DisplayName("The circuit re-opens should the trial call fail")
+    void circuitReopensAfterFailedTrial() {
+        failCall(ITEMS);
+        failCall(ITEMS);
+        clock.advance(OPEN_DURATION);
+
+        failCall(ITEMS);
+
+        assertThat(guardUnderTest.getState(ITEMS), is(OPEN));
+    }
+
+    @Test
+    @DisplayName("The bulkhead refuses calls beyond the concurrency limit until a call completes")
+    void bulkheadLimitsConcurrentCalls() {
+        guardUnderTest.enter(PAYMENTS);
+        guardUnderTest.enter(PAYMENTS);
+
+        assertThrows(ServiceUnavailableException.class, () -> guardUnderTest.enter(PAYMENTS));
+        assertThat(registry.get("orders.api.client.rejections")
+                .tag("downstream", "payments").tag("reason", "bulkhead-full").counter().count(), is(1.0));
+
+        guardUnderTest.exit(PAYMENTS, null);
+        guardUnderTest.enter(PAYMENTS);
+        assertThat(registry.get("orders.api.client.bulkhead.available")
+                .tag("downstream", "payments").gauge().value(), is(0.0));
+    }
+
+    private void failCall(final Downstream downstream) {
+        guardUnderTest.enter(downstream);
+        guardUnderTest.exit(downstream, new IOException("Connection refused"));
+    }
+
+    /**
+     * {@link Clock} the tests can move forward in time.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2020-06-01T12:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.companieshouse.orders.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link HedgingPolicy} class.
+ */
+class HedgingPolicyTest {
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("No request is hedged while hedging is disabled")
+    void disabledPolicyNeverHedges() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(false, 95, 50, 10, 20, registry);
+        recordLatencies(policyUnderTest, 100);
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("No request is hedged until enough latencies have been recorded")
+    void noHedgeWithoutEnoughLatencies() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 95, 50, 10, 20, registry);
+        recordLatencies(policyUnderTest, 19);
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("The hedging delay is the configured percentile of the recent latencies")
+    void hedgeDelayIsPercentileOfLatencies() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 95, 50, 10, 100, registry);
+        recordLatencies(policyUnderTest, 100);
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.of(Duration.ofMillis(950))));
+    }
+
+    @Test
+    @DisplayName("The hedging delay is never shorter than the minimum delay")
+    void hedgeDelayIsAtLeastMinimumDelay() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 95, 5000, 10, 20, registry);
+        recordLatencies(policyUnderTest, 20);
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.of(Duration.ofMillis(5000))));
+    }
+
+    @Test
+    @DisplayName("Only the latest latencies within the window determine the hedging delay")
+    void hedgeDelayReflectsLatestLatencies() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 50, 1, 10, 20, registry);
+        recordLatencies(policyUnderTest, 20);
+        for (int sample = 0; sample < 20; sample++) {
+            policyUnderTest.recordLatency(Duration.ofMillis(5));
+        }
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.of(Duration.ofMillis(5))));
+    }
+
+    @Test
+    @DisplayName("The hedging delay is recalculated after every few latencies recorded")
+    void hedgeDelayRecalculatedPeriodically() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 95, 1, 10, 20, registry);
+        recordLatencies(policyUnderTest, 20);
+        for (int sample = 1; sample < HedgingPolicy.RECALCULATION_INTERVAL; sample++) {
+            policyUnderTest.recordLatency(Duration.ofMillis(5000));
+        }
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.of(Duration.ofMillis(190))));
+
+        policyUnderTest.recordLatency(Duration.ofMillis(5000));
+
+        assertThat(policyUnderTest.onRequest(), is(Optional.of(Duration.ofMillis(5000))));
+    }
+
+    @Test
+    @DisplayName("Hedges are refused once the hedging budget is spent")
+    void hedgesLimitedByBudget() {
+        final HedgingPolicy policyUnderTest = new HedgingPolicy(true, 95, 50, 50, 20, registry);
+        recordLatencies(policyUnderTest, 20);
+
+        policyUnderTest.onRequest();
+        assertThat(policyUnderTest.tryAcquireHedge(), is(false));
+        policyUnderTest.onRequest();
+        assertThat(policyUnderTest.tryAcquireHedge(), is(true));
+        assertThat(policyUnderTest.tryAcquireHedge(), is(false));
+
+        assertThat(registry.get("orders.api.client.hedging.hedges")
+                .tag("outcome", "issued").counter().count(), is(1.0));
+        assertThat(registry.get("orders.api.client.hedging.hedges")
+                .tag("outcome", "budget-exhausted").counter().count(), is(2.0));
+        assertThat(registry.get("orders.api.client.hedging.requests").counter().count(), is(2.0));
+    }
+
+    private static void recordLatencies(final HedgingPolicy policy, final int count) {
+        for (int sample = 1; sample <= count; sample++) {
+            policy.recordLatency(Duration.ofMillis(sample * 10L));
+        }
+    }
+}
@@ -32,11 +32,13 @@ class ApplicationConfigTest {
     private UserAuthorisationInterceptor authorisationInterceptor;
     private final String healthcheckUri = "healthcheck";
     private final String paymentDetailsUri = "payment-details";
+    private final String actuatorBasePath = "/actuator";
+    private final String actuatorUris = "/actuator/**";
 
     @BeforeEach
     void setup() {
         config = Mockito.spy(new ApplicationConfig(loggingInterceptor, authenticationInterceptor,
-                authorisationInterceptor, healthcheckUri, paymentDetailsUri));
+                authorisationInterceptor, healthcheckUri, paymentDetailsUri, actuatorBasePath));
     }
 
     @Test
@@ -70,9 +72,10 @@ class ApplicationConfigTest {
 
         config.addInterceptors(registry);
 
-        verify(authenticationInterceptorRegistration).excludePathPatterns(healthcheckUri);
-        verify(authorisationInterceptorRegistration).excludePathPatterns(healthcheckUri);
-        verify(crudPermissionInterceptorRegistration).excludePathPatterns(paymentDetailsUri, healthcheckUri);
+        verify(authenticationInterceptorRegistration).excludePathPatterns(healthcheckUri, actuatorUris);
+        verify(authorisationInterceptorRegistration).excludePathPatterns(healthcheckUri, actuatorUris);
+        verify(crudPermissionInterceptorRegistration)
+                .excludePathPatterns(paymentDetailsUri, healthcheckUri, actuatorUris);
         verify(crudPermissionInterceptorPaymentDetailsRegistration).addPathPatterns(paymentDetailsUri);
 
         InOrder inOrder = Mockito.inOrder(registry);
@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.orders.api.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.companieshouse.orders.api.interceptor.UserAuthenticationInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest
+@EmbeddedKafka
+class ActuatorIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserAuthenticationInterceptor interceptor;
+
+    @Test
+    @DisplayName("Exposes the application's metrics")
+    void exposesMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/orders.api.outbox.pending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("orders.api.outbox.pending"));
+    }
+
+    @Test
+    @DisplayName("Exposes the application's metrics for scraping by Prometheus")
+    void exposesMetricsForPrometheus() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("orders_api_outbox_pending")));
+    }
+
+    @Test
+    @DisplayName("Actuator endpoints are excluded from authentication")
+    void excludedFromAuth() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+
+        verify(interceptor, never()).preHandle(
+                any(HttpServletRequest.class),
+                any(HttpServletResponse.class),
+                any(Object.class));
+    }
+}
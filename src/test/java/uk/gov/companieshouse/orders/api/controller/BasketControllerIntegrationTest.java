@@ -82,6 +82,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
@@ -327,6 +329,74 @@ class BasketControllerIntegrationTest {
         assertEquals(VALID_CERTIFICATE_URI, retrievedBasket.get().getData().getItems().get(0).getItemUri());
     }
 
+    @Test
+    @DisplayName("Add item adds the item to those already in the basket")
+    void addItemAddsItemToThoseAlreadyInBasket() throws Exception {
+        final Basket basket = new Basket();
+        basket.setId(ERIC_IDENTITY_VALUE);
+        final Item copy = new Item();
+        copy.setItemUri(VALID_CERTIFIED_COPY_URI);
+        basket.getData().getItems().add(copy);
+        basketRepository.save(basket);
+
+        final AddToBasketRequestDTO addToBasketRequestDTO = new AddToBasketRequestDTO();
+        addToBasketRequestDTO.setItemUri(VALID_CERTIFICATE_URI);
+
+        final Certificate certificate = new Certificate();
+        certificate.setItemUri(VALID_CERTIFICATE_URI);
+        certificate.setCompanyNumber(COMPANY_NUMBER);
+        when(apiClientService.getItem(ERIC_ACCESS_TOKEN, VALID_CERTIFICATE_URI)).thenReturn(certificate);
+
+        mockMvc.perform(post("/basket/items")
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.CREATE))
+                .header(ApiSdkManager.getEricPassthroughTokenHeader(), ERIC_ACCESS_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(addToBasketRequestDTO)))
+                .andExpect(status().isOk());
+
+        final Optional<Basket> retrievedBasket = basketRepository.findById(ERIC_IDENTITY_VALUE);
+        assertEquals(2, retrievedBasket.get().getData().getItems().size());
+        assertEquals(VALID_CERTIFIED_COPY_URI, retrievedBasket.get().getData().getItems().get(0).getItemUri());
+        assertEquals(VALID_CERTIFICATE_URI, retrievedBasket.get().getData().getItems().get(1).getItemUri());
+    }
+
+    @Test
+    @DisplayName("Add item returns 400 when the basket already holds the maximum number of items")
+    void addItemReturns400WhenBasketIsFull() throws Exception {
+        final Basket basket = new Basket();
+        basket.setId(ERIC_IDENTITY_VALUE);
+        for (int i = 0; i < 10; i++) {
+            final Item copy = new Item();
+            copy.setItemUri(VALID_CERTIFIED_COPY_URI + i);
+            basket.getData().getItems().add(copy);
+        }
+        basketRepository.save(basket);
+
+        final AddToBasketRequestDTO addToBasketRequestDTO = new AddToBasketRequestDTO();
+        addToBasketRequestDTO.setItemUri(VALID_CERTIFICATE_URI);
+
+        final ApiError expectedValidationError =
+                new ApiError(BAD_REQUEST, asList(ErrorType.BASKET_FULL.getValue()));
+
+        mockMvc.perform(post("/basket/items")
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.CREATE))
+                .header(ApiSdkManager.getEricPassthroughTokenHeader(), ERIC_ACCESS_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(addToBasketRequestDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(mapper.writeValueAsString(expectedValidationError)));
+
+        final Optional<Basket> retrievedBasket = basketRepository.findById(ERIC_IDENTITY_VALUE);
+        assertEquals(10, retrievedBasket.get().getData().getItems().size());
+        verify(apiClientService, never()).getItem(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("Add certificate to basket responds with correctly populated certificate item options")
     void addCertificateReturnsCorrectlyPopulatedOptions() throws Exception {
@@ -1580,6 +1650,24 @@ class BasketControllerIntegrationTest {
         checkPatchHasNotUpdated(checkout.getId(), PaymentStatus.NO_FUNDS);
     }
 
+    @Test
+    @DisplayName("Patch payment-details endpoint returns 404 for an unknown checkout without calling payments api")
+    void patchBasketPaymentDetailsUnknownCheckout() throws Exception {
+        BasketPaymentRequestDTO basketPaymentRequest = createBasketPaymentRequest(PaymentStatus.PAID);
+
+        mockMvc.perform(patch("/basket/checkouts/UNKNOWN-CHECKOUT/payment")
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_API_KEY_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_KEY_ROLES, INTERNAL_USER_ROLE)
+                .header(ApiSdkManager.getEricPassthroughTokenHeader(), ERIC_ACCESS_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(basketPaymentRequest)))
+                .andExpect(status().isNotFound());
+
+        verify(apiClientService, never()).getPaymentSummary(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("Patch payment-details endpoint fails if it doesn't return payment session")
     void patchBasketPaymentDetailsFailureReturningPaymentSession() throws Exception {
@@ -1843,7 +1931,7 @@ class BasketControllerIntegrationTest {
         copy.setItemOptions(options);
 
         return checkoutService.createCheckout(
-                copy, ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
+                singletonList(copy), ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
     }
 
     private Checkout createCertificateCheckout() {
@@ -1858,7 +1946,7 @@ class BasketControllerIntegrationTest {
         certificate.setItemOptions(options);
 
         return checkoutService.createCheckout(
-                certificate, ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
+                singletonList(certificate), ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
     }
 
     private Checkout createMissingImageCheckout() {
@@ -1871,7 +1959,7 @@ class BasketControllerIntegrationTest {
         missingImageDelivery.setItemOptions(MISSING_IMAGE_DELIVERY_ITEM_OPTIONS);
 
         return checkoutService.createCheckout(
-                missingImageDelivery, ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
+                singletonList(missingImageDelivery), ERIC_IDENTITY_VALUE, ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
     }
 
     /**
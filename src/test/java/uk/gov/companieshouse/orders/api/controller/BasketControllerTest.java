@@ -18,7 +18,8 @@ import uk.gov.companieshouse.orders.api.model.CheckoutData;
 import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.ItemCosts;
 import uk.gov.companieshouse.orders.api.model.PaymentStatus;
-import uk.gov.companieshouse.orders.api.service.ApiClientService;
+import uk.gov.companieshouse.orders.api.service.AsyncApiClientService;
+import uk.gov.companieshouse.orders.api.service.BasketItemService;
 import uk.gov.companieshouse.orders.api.service.BasketService;
 import uk.gov.companieshouse.orders.api.service.CheckoutService;
 import uk.gov.companieshouse.orders.api.service.OrderService;
@@ -34,9 +35,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
@@ -59,6 +63,9 @@ class BasketControllerTest {
     @Mock
     private BasketService basketService;
 
+    @Mock
+    private BasketItemService basketItemService;
+
     @Mock
     private Checkout checkout;
 
@@ -66,7 +73,7 @@ class BasketControllerTest {
     private CheckoutData checkoutData;
 
     @Mock
-    private ApiClientService apiClientService;
+    private AsyncApiClientService asyncApiClientService;
 
     @Mock
     private HttpServletRequest httpServletRequest;
@@ -101,7 +108,9 @@ class BasketControllerTest {
         basket.get().getData().setItems(items);
 
         when(basketService.getBasketById(any())).thenReturn(basket);
-        when(apiClientService.getItem(any(), any())).thenThrow(ApiErrorResponseException.class);
+        final CompletableFuture<List<Item>> itemsRetrieval = new CompletableFuture<>();
+        itemsRetrieval.completeExceptionally(mock(ApiErrorResponseException.class));
+        when(basketItemService.getItems(any(), any(), any())).thenReturn(itemsRetrieval);
 
         ResponseEntity<?> responseEntity = controllerUnderTest.getBasket(httpServletRequest, "requestId");
 
@@ -177,7 +186,8 @@ class BasketControllerTest {
         when(checkout.getData()).thenReturn(checkoutData);
         if (paymentOutcome.equals(PaymentStatus.PAID)) {
             mockCheckoutDataItems();
-            when(apiClientService.getPaymentSummary("EricHeader", payment_id)).thenReturn(paymentSummary);
+            when(asyncApiClientService.getPaymentSummary("EricHeader", payment_id))
+                    .thenReturn(completedFuture(paymentSummary));
         }
 
         // When
@@ -189,7 +199,7 @@ class BasketControllerTest {
             verify(checkoutData).setPaidAt(paidAt);
             verify(checkoutData).setPaymentReference(payment_id);
         }
-        verify(checkoutService).saveCheckout(checkout);
+        verify(checkoutService).updatePaymentDetails(checkout);
     }
 
     private void mockCheckoutDataItems() {
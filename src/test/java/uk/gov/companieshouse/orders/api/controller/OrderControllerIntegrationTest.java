@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.orders.api.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import uk.gov.companieshouse.api.util.security.Permission;
 import uk.gov.companieshouse.orders.api.model.Certificate;
@@ -22,7 +24,10 @@ import uk.gov.companieshouse.orders.api.model.Order;
 import uk.gov.companieshouse.orders.api.model.OrderData;
 import uk.gov.companieshouse.orders.api.repository.OrderRepository;
 
+import java.time.LocalDateTime;
+
 import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -177,4 +182,88 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("Get order history pages through the user's orders, most recent first, without item options")
+    void getOrderHistoryPagesThroughOrders() throws Exception {
+        final LocalDateTime now = LocalDateTime.now();
+        saveOrder("ORD-000001", ERIC_IDENTITY_VALUE, now.minusDays(2));
+        saveOrder("ORD-000002", ERIC_IDENTITY_VALUE, now.minusDays(1));
+        saveOrder("ORD-000003", ERIC_IDENTITY_VALUE, now);
+        saveOrder("ORD-000004", WRONG_ERIC_IDENTITY_VALUE, now);
+
+        final MvcResult firstPage = mockMvc.perform(get("/orders")
+                .param("user", ERIC_IDENTITY_VALUE)
+                .param("page_size", "2")
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.READ))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].reference", is("ORD-000003")))
+                .andExpect(jsonPath("$.items[1].reference", is("ORD-000002")))
+                .andExpect(jsonPath("$.items[0].items[0].kind", is(CERTIFICATE_KIND)))
+                .andExpect(jsonPath("$.items[0].items[0].item_options").doesNotExist())
+                .andReturn();
+        final JsonNode firstPageBody = mapper.readTree(firstPage.getResponse().getContentAsString());
+
+        mockMvc.perform(get("/orders")
+                .param("user", ERIC_IDENTITY_VALUE)
+                .param("page_size", "2")
+                .param("cursor", firstPageBody.get("next_cursor").asText())
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.READ))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].reference", is("ORD-000001")))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get order history responds with bad request for an invalid cursor")
+    void getOrderHistoryRejectsInvalidCursor() throws Exception {
+        mockMvc.perform(get("/orders")
+                .param("user", ERIC_IDENTITY_VALUE)
+                .param("cursor", "not-a-cursor")
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.READ))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get order history is unauthorised for the orders of another user")
+    void getOrderHistoryUnauthorisedForAnotherUser() throws Exception {
+        mockMvc.perform(get("/orders")
+                .param("user", WRONG_ERIC_IDENTITY_VALUE)
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, Permission.Value.READ))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void saveOrder(final String id, final String userId, final LocalDateTime createdAt) {
+        final Order order = new Order();
+        order.setId(id);
+        order.setUserId(userId);
+        order.setCreatedAt(createdAt);
+        final OrderData orderData = new OrderData();
+        orderData.setReference(id);
+        final Certificate certificate = new Certificate();
+        certificate.setKind(CERTIFICATE_KIND);
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setCertificateType(INCORPORATION_WITH_ALL_NAME_CHANGES);
+        certificate.setItemOptions(options);
+        orderData.setItems(singletonList(certificate));
+        order.setData(orderData);
+        orderRepository.save(order);
+    }
 }
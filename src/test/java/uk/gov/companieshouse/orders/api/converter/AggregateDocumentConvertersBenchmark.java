@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.orders.api.converter;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import uk.gov.companieshouse.orders.api.listener.OrderItemOptionsReader;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing a {@link Checkout} with the hand-written {@link AggregateDocumentConverters} against
+ * doing so with the reflective {@link MappingMongoConverter}. The reflective read includes the re-reading of the item
+ * options that {@link uk.gov.companieshouse.orders.api.listener.MongoCheckoutListener} does after it. Run with
+ * <code>make benchmark benchmarks=AggregateDocumentConverters</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregateDocumentConvertersBenchmark {
+
+    private MappingMongoConverter reflectiveConverter;
+    private OrderItemOptionsReader reader;
+    private GenericConversionService handWrittenConverters;
+    private Checkout checkout;
+    private Document checkoutDocument;
+
+    @Setup
+    public void setUp() {
+        reflectiveConverter = AggregateDocumentFixtures.reflectiveConverter();
+        handWrittenConverters = new GenericConversionService();
+        AggregateDocumentFixtures.handWrittenConverters().getConverters().forEach(handWrittenConverters::addConverter);
+        reader = new OrderItemOptionsReader(AggregateDocumentFixtures.objectMapper());
+        checkout = AggregateDocumentFixtures.checkout();
+        checkoutDocument = new Document();
+        reflectiveConverter.write(checkout, checkoutDocument);
+        // Stored documents are read back with nested documents throughout
+        checkoutDocument = Document.parse(checkoutDocument.toJson());
+    }
+
+    @Benchmark
+    public Checkout reflectiveRead() {
+        final Checkout read = reflectiveConverter.read(Checkout.class, checkoutDocument);
+        @SuppressWarnings("unchecked") // Java language limitation (type erasure)
+        final List<Document> itemDocuments =
+                (List<Document>) checkoutDocument.get("data", Document.class).get("items", List.class);
+        final List<Item> items = read.getData().getItems();
+        for (int index = 0; index < items.size(); index++) {
+            final Document optionsDocument = itemDocuments.get(index).get("item_options", Document.class);
+            items.get(index).setItemOptions(reader.readItemOptions(optionsDocument, items.get(index).getKind()));
+        }
+        return read;
+    }
+
+    @Benchmark
+    public Checkout handWrittenRead() {
+        return handWrittenConverters.convert(checkoutDocument, Checkout.class);
+    }
+
+    @Benchmark
+    public Document reflectiveWrite() {
+        final Document document = new Document();
+        reflectiveConverter.write(checkout, document);
+        return document;
+    }
+
+    @Benchmark
+    public Document handWrittenWrite() {
+        return handWrittenConverters.convert(checkout, Document.class);
+    }
+}
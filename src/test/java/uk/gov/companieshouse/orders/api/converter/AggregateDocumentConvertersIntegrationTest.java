@@ -0,0 +1,160 @@
+package uk.gov.companieshouse.orders.api.converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.companieshouse.orders.api.listener.MongoBasketListener;
+import uk.gov.companieshouse.orders.api.listener.MongoCheckoutListener;
+import uk.gov.companieshouse.orders.api.listener.MongoOrderListener;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+import uk.gov.companieshouse.orders.api.repository.BasketRepository;
+import uk.gov.companieshouse.orders.api.repository.CheckoutRepository;
+import uk.gov.companieshouse.orders.api.repository.OrderRepository;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests the repositories against the embedded database with the {@link AggregateDocumentConverters} in
+ * use in place of the reflective mapping.
+ */
+@DirtiesContext
+@SpringBootTest
+@EmbeddedKafka
+@TestPropertySource(properties = {"uk.gov.companieshouse.orders.api.mongo.converters.enabled=true"})
+class AggregateDocumentConvertersIntegrationTest {
+
+    private static final String ORDER_ID = "ORD-123456-123456";
+    private static final String USER_ID = "user-id";
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CheckoutRepository checkoutRepository;
+
+    @Autowired
+    private BasketRepository basketRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        checkoutRepository.deleteAll();
+        basketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("The listeners that read item options after the reflective mapping are not registered")
+    void listenersNotRegistered() {
+        assertThat(context.getBeansOfType(MongoOrderListener.class).isEmpty(), is(true));
+        assertThat(context.getBeansOfType(MongoCheckoutListener.class).isEmpty(), is(true));
+        assertThat(context.getBeansOfType(MongoBasketListener.class).isEmpty(), is(true));
+    }
+
+    @Test
+    @DisplayName("Saves an order and finds it again, item options included")
+    void savesAndFindsOrder() {
+
+        // Given
+        orderRepository.save(AggregateDocumentFixtures.order());
+
+        // When
+        final Order order = orderRepository.findById(ORDER_ID).orElseThrow(IllegalStateException::new);
+        final Order lookedUp = orderRepository.findByIdForLookup(ORDER_ID).orElseThrow(IllegalStateException::new);
+
+        // Then
+        assertThat(order.getUserId(), is(USER_ID));
+        assertThat(order.getData().getItems().get(0).getItemOptions(), is(instanceOf(CertificateItemOptions.class)));
+        assertThat(lookedUp.getData().getItems().get(0).getItemOptions(),
+                is(instanceOf(CertificateItemOptions.class)));
+    }
+
+    @Test
+    @DisplayName("Reads the order history, which leaves out the item options")
+    void readsOrderHistory() {
+
+        // Given
+        orderRepository.save(AggregateDocumentFixtures.order());
+
+        // When
+        final List<Order> history = orderRepository.findOrderHistory(USER_ID, null, null, 10);
+
+        // Then
+        assertThat(history, hasSize(1));
+        assertThat(history.get(0).getData().getReference(), is(ORDER_ID));
+        assertThat(history.get(0).getData().getItems().get(0).getItemOptions(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Rejects the insertion of an order that already exists")
+    void rejectsDuplicateOrder() {
+
+        // Given
+        mongoTemplate.insert(AggregateDocumentFixtures.order());
+
+        // When and then
+        assertThrows(DuplicateKeyException.class, () -> mongoTemplate.insert(AggregateDocumentFixtures.order()));
+    }
+
+    @Test
+    @DisplayName("Updates the payment details of a checkout found for its payment details")
+    void updatesCheckoutPaymentDetails() {
+
+        // Given
+        checkoutRepository.save(AggregateDocumentFixtures.checkout());
+        final Checkout checkout =
+                checkoutRepository.findByIdForPaymentDetails(ORDER_ID).orElseThrow(IllegalStateException::new);
+        checkout.getData().setStatus(PaymentStatus.PAID);
+        checkout.getData().setEtag("updated-etag");
+
+        // When
+        final boolean updated = checkoutRepository.updatePaymentDetails(checkout, "checkout-etag");
+
+        // Then
+        assertThat(updated, is(true));
+        final Checkout stored = checkoutRepository.findById(ORDER_ID).orElseThrow(IllegalStateException::new);
+        assertThat(stored.getData().getStatus(), is(PaymentStatus.PAID));
+        assertThat(stored.getData().getItems().get(0).getItemOptions(), is(instanceOf(CertificateItemOptions.class)));
+    }
+
+    @Test
+    @DisplayName("Clears the items from a basket, keeping its delivery details")
+    void clearsBasket() {
+
+        // Given
+        basketRepository.save(AggregateDocumentFixtures.basket());
+
+        // When
+        basketRepository.clearBasketDataById(USER_ID);
+
+        // Then
+        final Basket basket = basketRepository.findById(USER_ID).orElseThrow(IllegalStateException::new);
+        assertThat(basket.getData().getItems().isEmpty(), is(true));
+        assertThat(basket.getData().getDeliveryDetails(), is(notNullValue()));
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.companieshouse.orders.api.converter;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.orders.api.model.CertificateType;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link AggregateDocumentConverters} class against the reflective mapping it stands in for.
+ */
+class AggregateDocumentConvertersTest {
+
+    private MappingMongoConverter reflectiveConverter;
+    private GenericConversionService handWrittenConverters;
+
+    @BeforeEach
+    void setUp() {
+        reflectiveConverter = AggregateDocumentFixtures.reflectiveConverter();
+        handWrittenConverters = new GenericConversionService();
+        AggregateDocumentFixtures.handWrittenConverters().getConverters().forEach(handWrittenConverters::addConverter);
+    }
+
+    @Test
+    @DisplayName("Writes the same order document as the reflective mapping")
+    void writesOrderAsReflectiveMappingDoes() {
+
+        // Given
+        final Order order = AggregateDocumentFixtures.order();
+
+        // When
+        final Document document = handWrittenConverters.convert(order, Document.class);
+
+        // Then
+        assertThat(normalise(document), is(normalise(reflectivelyWritten(order))));
+    }
+
+    @Test
+    @DisplayName("Writes the same checkout document as the reflective mapping")
+    void writesCheckoutAsReflectiveMappingDoes() {
+
+        // Given
+        final Checkout checkout = AggregateDocumentFixtures.checkout();
+
+        // When
+        final Document document = handWrittenConverters.convert(checkout, Document.class);
+
+        // Then
+        assertThat(normalise(document), is(normalise(reflectivelyWritten(checkout))));
+    }
+
+    @Test
+    @DisplayName("Writes the same basket document as the reflective mapping")
+    void writesBasketAsReflectiveMappingDoes() {
+
+        // Given
+        final Basket basket = AggregateDocumentFixtures.basket();
+
+        // When
+        final Document document = handWrittenConverters.convert(basket, Document.class);
+
+        // Then
+        assertThat(normalise(document), is(normalise(reflectivelyWritten(basket))));
+    }
+
+    @Test
+    @DisplayName("Reads an order document written by the reflective mapping, item options included")
+    void readsOrderWrittenByReflectiveMapping() {
+
+        // Given
+        final Document written = reflectivelyWritten(AggregateDocumentFixtures.order());
+
+        // When
+        final Order order = handWrittenConverters.convert(written, Order.class);
+
+        // Then
+        assertThat(order.getData().getOrderedAt(), is(AggregateDocumentFixtures.order().getData().getOrderedAt()));
+        assertThat(order.getData().getItems().get(0).getItemOptions(), is(instanceOf(CertificateItemOptions.class)));
+        final CertificateItemOptions options =
+                (CertificateItemOptions) order.getData().getItems().get(0).getItemOptions();
+        assertThat(options.getCertificateType(), is(CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES));
+        assertThat(normalise(handWrittenConverters.convert(order, Document.class)), is(normalise(written)));
+    }
+
+    @Test
+    @DisplayName("Reads a checkout document written by the reflective mapping, item options included")
+    void readsCheckoutWrittenByReflectiveMapping() {
+
+        // Given
+        final Document written = reflectivelyWritten(AggregateDocumentFixtures.checkout());
+
+        // When
+        final Checkout checkout = handWrittenConverters.convert(written, Checkout.class);
+
+        // Then
+        assertThat(checkout.getData().getStatus(), is(PaymentStatus.IN_PROGRESS));
+        assertThat(checkout.getData().getItems().get(0).getItemOptions(),
+                is(instanceOf(CertificateItemOptions.class)));
+        assertThat(normalise(handWrittenConverters.convert(checkout, Document.class)), is(normalise(written)));
+    }
+
+    @Test
+    @DisplayName("Reads a basket document written by the reflective mapping, item snapshots included")
+    void readsBasketWrittenByReflectiveMapping() {
+
+        // Given
+        final Document written = reflectivelyWritten(AggregateDocumentFixtures.basket());
+
+        // When
+        final Basket basket = handWrittenConverters.convert(written, Basket.class);
+
+        // Then
+        assertThat(basket.getItems().get(0).getFetchedAt(),
+                is(AggregateDocumentFixtures.basket().getItems().get(0).getFetchedAt()));
+        assertThat(basket.getItems().get(0).isPostalDelivery(), is(true));
+        assertThat(normalise(handWrittenConverters.convert(basket, Document.class)), is(normalise(written)));
+    }
+
+    private Document reflectivelyWritten(final Object aggregate) {
+        final Document document = new Document();
+        reflectiveConverter.write(aggregate, document);
+        return document;
+    }
+
+    /**
+     * Renders the document as it would be stored, so that nested maps compare equal whatever their implementation.
+     * @param document the document
+     * @return the document as parsed from its JSON
+     */
+    private static Document normalise(final Document document) {
+        return Document.parse(document.toJson());
+    }
+}
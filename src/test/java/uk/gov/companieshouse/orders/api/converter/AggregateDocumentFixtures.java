@@ -0,0 +1,206 @@
+package uk.gov.companieshouse.orders.api.converter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.orders.api.listener.OrderItemOptionsReader;
+import uk.gov.companieshouse.orders.api.model.ActionedBy;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.BasketLinks;
+import uk.gov.companieshouse.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.orders.api.model.CertificateType;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.CheckoutData;
+import uk.gov.companieshouse.orders.api.model.CheckoutLinks;
+import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
+import uk.gov.companieshouse.orders.api.model.DeliveryMethod;
+import uk.gov.companieshouse.orders.api.model.DeliveryTimescale;
+import uk.gov.companieshouse.orders.api.model.DirectorOrSecretaryDetails;
+import uk.gov.companieshouse.orders.api.model.IncludeDobType;
+import uk.gov.companieshouse.orders.api.model.Item;
+import uk.gov.companieshouse.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.orders.api.model.ItemLinks;
+import uk.gov.companieshouse.orders.api.model.ItemStatus;
+import uk.gov.companieshouse.orders.api.model.NoIsSnakeCaseFieldNamingStrategy;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OrderData;
+import uk.gov.companieshouse.orders.api.model.OrderLinks;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+import uk.gov.companieshouse.orders.api.model.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Builds the aggregates and converters shared by {@link AggregateDocumentConvertersTest} and
+ * {@link AggregateDocumentConvertersBenchmark}.
+ */
+final class AggregateDocumentFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 6, 1, 9, 30, 15, 123_000_000);
+    private static final LocalDateTime UPDATED_AT = CREATED_AT.plusMinutes(5);
+
+    private AggregateDocumentFixtures() { }
+
+    /**
+     * Creates a {@link MappingMongoConverter} configured as that of the application when the hand-written converters
+     * are not in use.
+     * @return the reflective converter
+     */
+    static MappingMongoConverter reflectiveConverter() {
+        final MongoCustomConversions conversions = new MongoCustomConversions(
+                Arrays.asList(new StringToEnumConverterFactory(), new EnumToStringConverterFactory()));
+        final MongoMappingContext context = new MongoMappingContext();
+        context.setFieldNamingStrategy(new NoIsSnakeCaseFieldNamingStrategy());
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        final MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    static ObjectMapper objectMapper() {
+        // As configured by ApplicationConfig
+        return new ObjectMapper()
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .findAndRegisterModules();
+    }
+
+    static AggregateDocumentConverters handWrittenConverters() {
+        final ObjectMapper mapper = objectMapper();
+        return new AggregateDocumentConverters(new OrderItemOptionsReader(mapper), mapper);
+    }
+
+    static Order order() {
+        final Order order = new Order();
+        order.setId("ORD-123456-123456");
+        order.setCreatedAt(CREATED_AT);
+        order.setUpdatedAt(UPDATED_AT);
+        order.setUserId("user-id");
+        final OrderData data = new OrderData();
+        data.setPaymentReference("payment-reference");
+        data.setEtag("order-etag");
+        data.setDeliveryDetails(deliveryDetails());
+        data.setItems(Collections.singletonList(certificate()));
+        data.setKind("order");
+        data.setTotalOrderCost("15");
+        data.setReference("ORD-123456-123456");
+        data.setOrderedAt(UPDATED_AT);
+        data.setOrderedBy(actionedBy());
+        final OrderLinks links = new OrderLinks();
+        links.setSelf("/orders/ORD-123456-123456");
+        data.setLinks(links);
+        order.setData(data);
+        return order;
+    }
+
+    static Checkout checkout() {
+        final Checkout checkout = new Checkout();
+        checkout.setId("ORD-123456-123456");
+        checkout.setCreatedAt(CREATED_AT);
+        checkout.setUpdatedAt(UPDATED_AT);
+        checkout.setUserId("user-id");
+        final CheckoutData data = new CheckoutData();
+        data.setEtag("checkout-etag");
+        data.setDeliveryDetails(deliveryDetails());
+        data.setItems(Collections.singletonList(certificate()));
+        data.setKind("order");
+        data.setTotalOrderCost("15");
+        data.setReference("ORD-123456-123456");
+        data.setCheckedOutBy(actionedBy());
+        data.setStatus(PaymentStatus.IN_PROGRESS);
+        final CheckoutLinks links = new CheckoutLinks();
+        links.setSelf("/basket/checkouts/ORD-123456-123456");
+        links.setPayment("/basket/checkouts/ORD-123456-123456/payment");
+        data.setLinks(links);
+        checkout.setData(data);
+        return checkout;
+    }
+
+    static Basket basket() {
+        final Basket basket = new Basket();
+        basket.setId("user-id");
+        basket.setCreatedAt(CREATED_AT);
+        basket.setUpdatedAt(UPDATED_AT);
+        basket.getData().setDeliveryDetails(deliveryDetails());
+        final Item item = certificate();
+        item.setFetchedAt(UPDATED_AT);
+        basket.setItems(Collections.singletonList(item));
+        basket.getData().setEtag("basket-etag");
+        basket.getData().setKind("basket");
+        final BasketLinks links = new BasketLinks();
+        links.setSelf("/basket");
+        basket.getData().setLinks(links);
+        basket.getData().setTotalBasketCost("15");
+        return basket;
+    }
+
+    private static Item certificate() {
+        final Item item = new Item();
+        item.setId("CRT-123456-123456");
+        item.setCompanyName("THE COMPANY");
+        item.setCompanyNumber("00006400");
+        item.setCustomerReference("reference");
+        item.setDescription("certificate for company 00006400");
+        item.setDescriptionIdentifier("certificate");
+        item.setDescriptionValues(Collections.singletonMap("certificate", "certificate for company 00006400"));
+        item.setItemCosts(Collections.singletonList(new ItemCosts("0", "15", "15", ProductType.CERTIFICATE)));
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setCertificateType(CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES);
+        options.setDeliveryMethod(DeliveryMethod.POSTAL);
+        options.setDeliveryTimescale(DeliveryTimescale.STANDARD);
+        options.setForename("John");
+        options.setSurname("Smith");
+        options.setIncludeCompanyObjectsInformation(true);
+        options.setIncludeEmailCopy(false);
+        final DirectorOrSecretaryDetails directorDetails = new DirectorOrSecretaryDetails();
+        directorDetails.setIncludeAddress(true);
+        directorDetails.setIncludeBasicInformation(true);
+        directorDetails.setIncludeDobType(IncludeDobType.PARTIAL);
+        options.setDirectorDetails(directorDetails);
+        item.setItemOptions(options);
+        item.setEtag("item-etag");
+        item.setKind("item#certificate");
+        final ItemLinks links = new ItemLinks();
+        links.setSelf("/orderable/certificates/CRT-123456-123456");
+        item.setLinks(links);
+        item.setPostalDelivery(true);
+        item.setQuantity(1);
+        item.setItemUri("/orderable/certificates/CRT-123456-123456");
+        item.setStatus(ItemStatus.UNKNOWN);
+        item.setPostageCost("0");
+        item.setTotalItemCost("15");
+        return item;
+    }
+
+    private static DeliveryDetails deliveryDetails() {
+        final DeliveryDetails details = new DeliveryDetails();
+        details.setAddressLine1("address line 1");
+        details.setCountry("United Kingdom");
+        details.setForename("John");
+        details.setLocality("Cardiff");
+        details.setPostalCode("CF14 3UZ");
+        details.setSurname("Smith");
+        return details;
+    }
+
+    private static ActionedBy actionedBy() {
+        final ActionedBy actionedBy = new ActionedBy();
+        actionedBy.setEmail("demo@ch.gov.uk");
+        actionedBy.setId("user-id");
+        return actionedBy;
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Optional;
 
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.reactive.function.BodyInserters.fromObject;
@@ -197,7 +198,7 @@ class OrdersApiAuthenticationTests {
 
 		when(basketService.getBasketById(anyString())).thenReturn(Optional.of(basket));
 		when(checkoutService.createCheckout(
-				any(Certificate.class), any(String.class), any(String.class), any(DeliveryDetails.class)))
+				anyList(), any(String.class), any(String.class), any(DeliveryDetails.class)))
 				.thenReturn(checkout);
 
 		CheckoutData checkoutDataResp = new CheckoutData();
@@ -109,6 +109,17 @@ public class RequestMapperTests {
         assertThat(requestMapperUnderTest.getRequestMapping(request).getName(), is(GET_ORDER));
     }
 
+    @Test
+    @DisplayName("getRequestMappingInfo gets the get order history request mapping")
+    void getRequestMappingInfoGetsGetOrderHistory() {
+
+        // Given
+        givenRequest(GET, "/orders");
+
+        // When and then
+        assertThat(requestMapperUnderTest.getRequestMapping(request).getName(), is(GET_ORDER_HISTORY));
+    }
+
     @Test
     @DisplayName("getRequestMappingInfo returns null where no mapping found")
     void getRequestMappingInfoReturnsNullWhereNoMappingFound() {
@@ -32,6 +32,7 @@ import static uk.gov.companieshouse.api.util.security.EricConstants.ERIC_AUTHORI
 import static uk.gov.companieshouse.api.util.security.SecurityConstants.INTERNAL_USER_ROLE;
 import static uk.gov.companieshouse.orders.api.controller.BasketController.CHECKOUT_ID_PATH_VARIABLE;
 import static uk.gov.companieshouse.orders.api.controller.OrderController.ORDER_ID_PATH_VARIABLE;
+import static uk.gov.companieshouse.orders.api.interceptor.UserAuthorisationInterceptor.AUTHORISED_RESOURCE_ATTRIBUTE;
 import static uk.gov.companieshouse.orders.api.util.EricHeaderHelper.*;
 import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
 import static uk.gov.companieshouse.orders.api.util.TestConstants.WRONG_ERIC_IDENTITY_VALUE;
@@ -124,6 +125,7 @@ public class UserAuthorisationInterceptorTests {
 
         // When and then
         thenRequestIsAccepted();
+        verify(request).setAttribute(AUTHORISED_RESOURCE_ATTRIBUTE, checkout);
     }
 
     @Test
@@ -188,6 +190,7 @@ public class UserAuthorisationInterceptorTests {
 
         // When and then
         thenRequestIsAccepted();
+        verify(request).setAttribute(AUTHORISED_RESOURCE_ATTRIBUTE, order);
     }
 
     @Test
@@ -247,7 +250,7 @@ public class UserAuthorisationInterceptorTests {
      */
     private void givenGetPaymentDetailsCheckoutIdPathVariableIsPopulated(final String checkoutOwnerId) {
         givenPathVariable(CHECKOUT_ID_PATH_VARIABLE, "1");
-        when(checkoutRepository.findById("1")).thenReturn(Optional.of(checkout));
+        when(checkoutRepository.findByIdForPaymentDetails("1")).thenReturn(Optional.of(checkout));
         when(checkout.getUserId()).thenReturn(checkoutOwnerId);
     }
 
@@ -257,7 +260,7 @@ public class UserAuthorisationInterceptorTests {
      */
     private void givenGetOrderOrderIdPathVariableIsPopulated(final String orderOwnerId) {
         givenPathVariable(ORDER_ID_PATH_VARIABLE, "1");
-        when(orderRepository.findById("1")).thenReturn(Optional.of(order));
+        when(orderRepository.findByIdForLookup("1")).thenReturn(Optional.of(order));
         when(order.getUserId()).thenReturn(orderOwnerId);
     }
 
@@ -310,5 +313,6 @@ public class UserAuthorisationInterceptorTests {
     private void thenRequestIsRejected() {
         assertThat(interceptorUnderTest.preHandle(request, response, handler), is(false));
         verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
+        verify(request, never()).setAttribute(eq(AUTHORISED_RESOURCE_ATTRIBUTE), any());
     }
 }
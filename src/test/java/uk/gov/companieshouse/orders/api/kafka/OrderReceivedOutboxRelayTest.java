@@ -0,0 +1,270 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.orders.OrderReceived;
+import uk.gov.companieshouse.orders.api.exception.KafkaMessagingException;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+import uk.gov.companieshouse.orders.api.model.OutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests the {@link OrderReceivedOutboxRelay} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderReceivedOutboxRelayTest {
+
+    private static final String ORDER_ID = "ORD-123456-123456";
+    private static final String ORDER_URI = "/orders/" + ORDER_ID;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OrderReceivedMessageProducer producer;
+
+    @Captor
+    private ArgumentCaptor<OrderReceived> orderReceivedCaptor;
+
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    private MeterRegistry registry;
+
+    private OrderReceivedOutboxRelay relayUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        relayUnderTest =
+                new OrderReceivedOutboxRelay(mongoTemplate, producer, true, 100, 1000, 300000, 10, 60000, registry);
+    }
+
+    @Test
+    @DisplayName("Sends a pending notification whose order exists, and marks it sent")
+    void sendsNotificationAndMarksItSent() {
+
+        // Given
+        givenPendingRecord(LocalDateTime.now().minusSeconds(1));
+        givenOrderExists();
+        givenClaimSucceeds();
+        when(producer.sendMessage(anyString(), any(OrderReceived.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then
+        assertThat(sent, is(1));
+        verify(producer).sendMessage(eq(ORDER_ID), orderReceivedCaptor.capture());
+        assertThat(orderReceivedCaptor.getValue().getOrderUri(), is(ORDER_URI));
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updateCaptor.capture(), eq(OutboxRecord.class));
+        final Document marked = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(marked.get("status"), is(OutboxStatus.SENT.getJsonName()));
+    }
+
+    @Test
+    @DisplayName("Schedules a notification that fails to be sent for a retry")
+    void schedulesRetryOnFailure() {
+
+        // Given
+        givenPendingRecord(LocalDateTime.now().minusSeconds(1));
+        givenOrderExists();
+        givenClaimSucceeds();
+        final CompletableFuture<RecordMetadata> failedSend = new CompletableFuture<>();
+        failedSend.completeExceptionally(new KafkaMessagingException("send failed", new RuntimeException()));
+        when(producer.sendMessage(anyString(), any(OrderReceived.class))).thenReturn(failedSend);
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then
+        assertThat(sent, is(0));
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updateCaptor.capture(), eq(OutboxRecord.class));
+        final Document retry = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(retry.get("attempts"), is(1));
+    }
+
+    @Test
+    @DisplayName("Schedules a notification whose send is still outstanding when its claim expires for a retry")
+    void schedulesRetryOnClaimExpiry() {
+
+        // Given
+        relayUnderTest = new OrderReceivedOutboxRelay(mongoTemplate, producer, true, 100, 1000, 300000, 10, 50,
+                registry);
+        givenPendingRecord(LocalDateTime.now().minusSeconds(1));
+        givenOrderExists();
+        givenClaimSucceeds();
+        when(producer.sendMessage(anyString(), any(OrderReceived.class))).thenReturn(new CompletableFuture<>());
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then
+        assertThat(sent, is(0));
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updateCaptor.capture(), eq(OutboxRecord.class));
+        final Document retry = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(retry.get("attempts"), is(1));
+    }
+
+    @Test
+    @DisplayName("Does not send a notification claimed by another instance")
+    void doesNotSendNotificationClaimedElsewhere() {
+
+        // Given
+        givenPendingRecord(LocalDateTime.now().minusSeconds(1));
+        givenOrderExists();
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(OutboxRecord.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then
+        assertThat(sent, is(0));
+        verify(producer, never()).sendMessage(anyString(), any(OrderReceived.class));
+    }
+
+    @Test
+    @DisplayName("Discards a notification whose order was never created, once the grace period is over")
+    void discardsOrphanedNotification() {
+
+        // Given
+        givenPendingRecord(LocalDateTime.now().minusMinutes(11));
+        when(mongoTemplate.getCollectionName(Order.class)).thenReturn("order");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("order")))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then
+        assertThat(sent, is(0));
+        verify(mongoTemplate).remove(any(Query.class), eq(OutboxRecord.class));
+        verify(producer, never()).sendMessage(anyString(), any(OrderReceived.class));
+    }
+
+    @Test
+    @DisplayName("Passes over a notification whose order is not yet created until later, within the grace period")
+    void defersNotificationAwaitingOrder() {
+
+        // Given
+        final LocalDateTime createdAt = LocalDateTime.now().minusMinutes(2);
+        givenPendingRecord(createdAt);
+        when(mongoTemplate.getCollectionName(Order.class)).thenReturn("order");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("order")))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        final int sent = relayUnderTest.relay();
+
+        // Then it is deferred by as long again as it has existed
+        assertThat(sent, is(0));
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(OutboxRecord.class));
+        final LocalDateTime deferredTo = (LocalDateTime) updateCaptor.getValue().getUpdateObject()
+                .get("$set", Document.class).get("next_attempt_at");
+        assertThat(deferredTo.isBefore(createdAt.plusMinutes(4)), is(false));
+        assertThat(deferredTo.isAfter(createdAt.plusMinutes(10)), is(false));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(OutboxRecord.class));
+        verify(producer, never()).sendMessage(anyString(), any(OrderReceived.class));
+    }
+
+    @Test
+    @DisplayName("Defers a notification awaiting its order no later than the end of the grace period")
+    void defersNotificationAwaitingOrderNoLaterThanGracePeriod() {
+
+        // Given
+        final LocalDateTime createdAt = LocalDateTime.now().minusMinutes(8);
+        givenPendingRecord(createdAt);
+        when(mongoTemplate.getCollectionName(Order.class)).thenReturn("order");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("order")))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        relayUnderTest.relay();
+
+        // Then
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(OutboxRecord.class));
+        final Document deferred = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(deferred.get("next_attempt_at"), is(createdAt.plusMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Publishes the depth and age of the backlog of notifications pending after each run")
+    void publishesBacklogMetrics() {
+
+        // Given
+        final OutboxRecord oldest = new OutboxRecord();
+        oldest.setCreatedAt(LocalDateTime.now().minusSeconds(90));
+        when(mongoTemplate.count(any(Query.class), eq(OutboxRecord.class))).thenReturn(3L);
+        when(mongoTemplate.findOne(any(Query.class), eq(OutboxRecord.class))).thenReturn(oldest);
+
+        // When
+        relayUnderTest.onSchedule();
+
+        // Then
+        assertThat(registry.get("orders.api.outbox.pending").gauge().value(), is(3.0));
+        assertThat(registry.get("orders.api.outbox.oldest.pending.age.seconds").gauge().value(),
+                is(greaterThanOrEqualTo(90.0)));
+    }
+
+    @Test
+    @DisplayName("Doubles the delay before each retry, up to the maximum")
+    void doublesRetryDelayUpToMaximum() {
+        assertThat(relayUnderTest.retryDelay(1), is(Duration.ofSeconds(1)));
+        assertThat(relayUnderTest.retryDelay(4), is(Duration.ofSeconds(8)));
+        assertThat(relayUnderTest.retryDelay(100), is(Duration.ofMinutes(5)));
+    }
+
+    private void givenPendingRecord(final LocalDateTime createdAt) {
+        final OutboxRecord record = new OutboxRecord();
+        record.setId(ORDER_ID);
+        record.setOrderUri(ORDER_URI);
+        record.setStatus(OutboxStatus.PENDING);
+        record.setCreatedAt(createdAt);
+        record.setNextAttemptAt(createdAt);
+        when(mongoTemplate.find(any(Query.class), eq(OutboxRecord.class)))
+                .thenReturn(Collections.singletonList(record));
+    }
+
+    private void givenOrderExists() {
+        when(mongoTemplate.getCollectionName(Order.class)).thenReturn("order");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("order")))
+                .thenReturn(Collections.singletonList(new Document("_id", ORDER_ID)));
+    }
+
+    private void givenClaimSucceeds() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(OutboxRecord.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    }
+}
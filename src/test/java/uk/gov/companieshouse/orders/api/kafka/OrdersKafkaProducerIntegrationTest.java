@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.orders.api.kafka;
 
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.junit.Assert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +19,14 @@ import uk.gov.companieshouse.orders.OrderReceived;
 import uk.gov.companieshouse.orders.api.controller.GlobalExceptionHandler;
 import uk.gov.companieshouse.orders.api.exception.KafkaMessagingException;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,10 +47,6 @@ public class OrdersKafkaProducerIntegrationTest {
     @Mock
     private GlobalExceptionHandler exceptionHandlerMock;
     @Mock
-    private ExecutionException executionExceptionMock;
-    @Mock
-    private InterruptedException interruptedExceptionMock;
-    @Mock
     private SerializationException serializationExceptionMock;
     @Mock
     private OrdersMessageFactory ordersMessageFactoryMock;
@@ -75,37 +76,22 @@ public class OrdersKafkaProducerIntegrationTest {
     }
 
     @Test
-    @DisplayName("sendMessage throws KafkaMessagingException when ExecutionException is caught.")
-    void testExecutionExceptionHandling() throws SerializationException, ExecutionException, InterruptedException {
+    @DisplayName("sendMessage fails with KafkaMessagingException when message cannot be sent.")
+    void testSendFailureHandling() throws SerializationException {
         // given a Kafka message is requested to be sent
         // and an Order message is created
         Message message = createTestMessage();
         when(ordersMessageFactoryMock.createMessage(any())).thenReturn(message);
 
-        // when ExecutionException is thrown while sending Kafka message
-        // then KafkaMessagingException is thrown and handled by GlobalExceptionHandler advice
-        doThrow(executionExceptionMock).when(ordersKafkaProducerMock).sendMessage(ORDER_ID, message, recordMetadata -> {
-            assertThrows(KafkaMessagingException.class, () -> orderReceivedMessageProducer.sendMessage(ORDER_ID, orderReceived));
-            verify(exceptionHandlerMock, times(1)).handleKafkaMessagingException(Mockito.any());
-        });
-        orderReceivedMessageProducer.sendMessage(ORDER_ID, orderReceived);
-    }
+        // when the message cannot be sent to Kafka
+        CompletableFuture<RecordMetadata> failedSend = new CompletableFuture<>();
+        failedSend.completeExceptionally(new TimeoutException("Failed to update metadata"));
+        when(ordersKafkaProducerMock.sendMessage(eq(ORDER_ID), eq(message), any())).thenReturn(failedSend);
 
-    @Test
-    @DisplayName("sendMessage throws KafkaMessagingException when InterruptedException is caught.")
-    void testInterruptedExceptionHandling() throws SerializationException, ExecutionException, InterruptedException {
-        // given a Kafka message is requested to be sent
-        // and an Order message is created
-        Message message = createTestMessage();
-        when(ordersMessageFactoryMock.createMessage(any())).thenReturn(message);
-
-        // when InterruptedException is thrown while sending Kafka message
-        // then KafkaMessagingException is thrown and handled by GlobalExceptionHandler advice
-        doThrow(interruptedExceptionMock).when(ordersKafkaProducerMock).sendMessage(ORDER_ID, message, recordMetadata -> {
-            assertThrows(KafkaMessagingException.class, () -> orderReceivedMessageProducer.sendMessage(ORDER_ID, orderReceived));
-            verify(exceptionHandlerMock, times(1)).handleKafkaMessagingException(Mockito.any());
-        });
-        orderReceivedMessageProducer.sendMessage(ORDER_ID, orderReceived);
+        // then the future returned fails with KafkaMessagingException
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> orderReceivedMessageProducer.sendMessage(ORDER_ID, orderReceived).get());
+        assertThat(exception.getCause(), is(instanceOf(KafkaMessagingException.class)));
     }
 
     @Test
@@ -0,0 +1,62 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.kafka.exceptions.SerializationException;
+import uk.gov.companieshouse.kafka.message.Message;
+import uk.gov.companieshouse.kafka.serialization.AvroSerializer;
+import uk.gov.companieshouse.kafka.serialization.SerializerFactory;
+import uk.gov.companieshouse.orders.OrderReceived;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating an order-received message with {@link OrdersMessageFactory} against doing so as it used to, with
+ * a serializer obtained from the {@link SerializerFactory} (and fresh buffers) for every message. Run with
+ * <code>make benchmark benchmarks=OrdersMessageFactory</code> and compare the <code>gc.alloc.rate.norm</code> (bytes
+ * allocated per message) as well as the time per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrdersMessageFactoryBenchmark {
+
+    private SerializerFactory serializerFactory;
+    private OrdersMessageFactory messageFactory;
+    private OrderReceived orderReceived;
+
+    @Setup
+    public void setUp() {
+        serializerFactory = new SerializerFactory();
+        messageFactory = new OrdersMessageFactory();
+        orderReceived = new OrderReceived("/orders/ORD-123456-123456");
+    }
+
+    @Benchmark
+    public Message serializerPerMessage() throws SerializationException {
+        final AvroSerializer<OrderReceived> serializer =
+                serializerFactory.getGenericRecordSerializer(OrderReceived.class);
+        final Message message = new Message();
+        message.setValue(serializer.toBinary(orderReceived));
+        message.setTopic("order-received");
+        message.setTimestamp(new Date().getTime());
+        return message;
+    }
+
+    @Benchmark
+    public Message cachedWriterAndThreadBuffers() throws SerializationException {
+        return messageFactory.createMessage(orderReceived);
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.kafka.message.Message;
+import uk.gov.companieshouse.kafka.serialization.SerializerFactory;
+import uk.gov.companieshouse.orders.OrderReceived;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link OrdersMessageFactory} class.
+ */
+class OrdersMessageFactoryTest {
+
+    private static final String ORDER_URI = "/orders/ORD-123456-123456";
+    private static final String OTHER_ORDER_URI = "/orders/ORD-654321-654321-0001";
+
+    private final OrdersMessageFactory factoryUnderTest = new OrdersMessageFactory();
+
+    @Test
+    @DisplayName("Encodes the message as the CH generic record serializer does")
+    void encodesAsSerializerFactoryDoes() throws Exception {
+
+        // Given
+        final OrderReceived orderReceived = new OrderReceived(ORDER_URI);
+
+        // When
+        final Message message = factoryUnderTest.createMessage(orderReceived);
+
+        // Then
+        assertThat(message.getTopic(), is("order-received"));
+        assertThat(message.getValue(), is(serializedByFactory(orderReceived)));
+    }
+
+    @Test
+    @DisplayName("Gives each message its own value, however the buffers it was encoded in are reused")
+    void givesEachMessageItsOwnValue() throws Exception {
+
+        // Given
+        final Message first = factoryUnderTest.createMessage(new OrderReceived(OTHER_ORDER_URI));
+
+        // When
+        final Message second = factoryUnderTest.createMessage(new OrderReceived(ORDER_URI));
+
+        // Then
+        assertThat(first.getValue(), is(serializedByFactory(new OrderReceived(OTHER_ORDER_URI))));
+        assertThat(second.getValue(), is(serializedByFactory(new OrderReceived(ORDER_URI))));
+    }
+
+    @Test
+    @DisplayName("Encodes messages correctly when created on many threads at once")
+    void encodesCorrectlyOnManyThreads() throws Exception {
+
+        // Given
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        final List<Future<Message>> messages = new ArrayList<>();
+
+        // When
+        for (int index = 0; index < 1000; index++) {
+            final String orderUri = index % 2 == 0 ? ORDER_URI : OTHER_ORDER_URI;
+            messages.add(threads.submit(() -> factoryUnderTest.createMessage(new OrderReceived(orderUri))));
+        }
+
+        // Then
+        try {
+            for (int index = 0; index < messages.size(); index++) {
+                final String orderUri = index % 2 == 0 ? ORDER_URI : OTHER_ORDER_URI;
+                assertThat(messages.get(index).get().getValue(), is(serializedByFactory(new OrderReceived(orderUri))));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static byte[] serializedByFactory(final OrderReceived orderReceived) throws Exception {
+        return new SerializerFactory().getGenericRecordSerializer(OrderReceived.class).toBinary(orderReceived);
+    }
+}
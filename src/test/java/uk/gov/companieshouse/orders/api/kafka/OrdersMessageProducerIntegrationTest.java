@@ -31,8 +31,7 @@ public class OrdersMessageProducerIntegrationTest {
     @Autowired
     OrdersMessageConsumer testOrdersMessageConsumer;
 
-    @Autowired
-    SerializerFactory serializerFactory;
+    private final SerializerFactory serializerFactory = new SerializerFactory();
 
     @Test
     void testSendOrderReceivedMessageToKafkaTopic() throws Exception {
@@ -0,0 +1,84 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import uk.gov.companieshouse.kafka.exceptions.SerializationException;
+import uk.gov.companieshouse.kafka.message.Message;
+import uk.gov.companieshouse.orders.OrderReceived;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the {@link OrdersKafkaProducer} with each of the {@link ProducerProfile}s, sending bursts
+ * of <code>order-received</code> messages, as the outbox relay does, to an embedded broker and waiting for all of
+ * each burst to be acknowledged. Run with <code>make benchmark benchmarks=ProducerProfile</code>; the score is the
+ * number of messages sent per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProducerProfileBenchmark {
+
+    private static final int BURST_SIZE = 100;
+
+    @Param({"default", "high-throughput"})
+    private String profile;
+
+    private EmbeddedKafkaBroker broker;
+    private OrdersKafkaProducer producer;
+    private Message[] messages;
+
+    @Setup
+    public void setUp() throws SerializationException {
+        broker = new EmbeddedKafkaBroker(1, true, 2, "order-received");
+        broker.afterPropertiesSet();
+        producer = new OrdersKafkaProducer(broker.getBrokersAsString(), profile, 2, BURST_SIZE * 10,
+                new SimpleMeterRegistry());
+        producer.afterPropertiesSet();
+        final OrdersMessageFactory messageFactory = new OrdersMessageFactory();
+        messages = new Message[BURST_SIZE];
+        for (int index = 0; index < BURST_SIZE; index++) {
+            messages[index] =
+                    messageFactory.createMessage(new OrderReceived("/orders/ORD-123456-" + (100000 + index)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        producer.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public void sendBurst() {
+        final CompletableFuture<?>[] sends = new CompletableFuture<?>[BURST_SIZE];
+        for (int index = 0; index < BURST_SIZE; index++) {
+            sends[index] = producer.sendMessage("ORD-123456-" + (100000 + index), messages[index],
+                    ProducerProfileBenchmark::ignore);
+        }
+        CompletableFuture.allOf(sends).join();
+    }
+
+    private static void ignore(final RecordMetadata recordMetadata) {
+        // Nothing to log
+    }
+}
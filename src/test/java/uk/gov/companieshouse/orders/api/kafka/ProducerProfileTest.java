@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.orders.api.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests the {@link ProducerProfile} enum.
+ */
+class ProducerProfileTest {
+
+    @Test
+    @DisplayName("Gets the profile named as in configuration")
+    void getsProfileByName() {
+        assertThat(ProducerProfile.fromName("high-throughput"), is(ProducerProfile.HIGH_THROUGHPUT));
+        assertThat(ProducerProfile.fromName("default"), is(ProducerProfile.DEFAULT));
+    }
+
+    @Test
+    @DisplayName("Rejects an unknown profile name, listing those known")
+    void rejectsUnknownProfileName() {
+        final IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> ProducerProfile.fromName("fastest"));
+        assertThat(exception.getMessage(), containsString("default, high-throughput"));
+    }
+
+    @Test
+    @DisplayName("Configures the producer to batch, compress and send idempotently for high throughput")
+    void configuresHighThroughput() {
+
+        // Given
+        final Properties config = new Properties();
+
+        // When
+        ProducerProfile.HIGH_THROUGHPUT.configure(config);
+
+        // Then
+        assertThat(config.get(ProducerConfig.LINGER_MS_CONFIG), is(20));
+        assertThat(config.get(ProducerConfig.COMPRESSION_TYPE_CONFIG), is("lz4"));
+        assertThat(config.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG), is(true));
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.companieshouse.orders.api.listener;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.BasketData;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests the {@link MongoBasketListener} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoBasketListenerTest {
+
+    @InjectMocks
+    private MongoBasketListener listenerUnderTest;
+
+    @Mock
+    private AfterConvertEvent<Basket> event;
+
+    @Mock
+    private Document basketDocument;
+
+    @Mock
+    private Basket basket;
+
+    @Mock
+    private BasketData basketData;
+
+    @Mock
+    private List<Item> items;
+
+    @Mock
+    private OrderItemOptionsReader reader;
+
+
+    @Test
+    @DisplayName("onAfterConvert() delegates to reader")
+    void onAfterConvertDelegatesToReader() {
+
+        // Given
+        givenValidEvent();
+
+        // When
+        listenerUnderTest.onAfterConvert(event);
+
+        // Then
+        verify(reader).readOrderItemsOptions(items, basketDocument, "basket");
+    }
+
+    @Test
+    @DisplayName("onAfterConvert() propagates reader IllegalStateException")
+    void onAfterConvertPropagatesReaderIllegalStateException() {
+
+        // Given
+        givenValidEvent();
+        doThrow(new IllegalStateException("Test exception"))
+                .when(reader).readOrderItemsOptions(items, basketDocument, "basket");
+
+        // When and then
+        final IllegalStateException exception =
+                assertThrows(IllegalStateException.class, () -> listenerUnderTest.onAfterConvert(event));
+        assertThat(exception.getMessage(), is("Test exception"));
+    }
+
+    @Test
+    @DisplayName("onAfterConvert() propagates reader IllegalArgumentException")
+    void onAfterConvertPropagatesReaderIllegalArgumentException() {
+        // Given
+        givenValidEvent();
+        doThrow(new IllegalArgumentException("Test exception"))
+                .when(reader).readOrderItemsOptions(items, basketDocument, "basket");
+
+        // When and then
+        final IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> listenerUnderTest.onAfterConvert(event));
+        assertThat(exception.getMessage(), is("Test exception"));
+    }
+
+    /**
+     * Provides a valid event set up for testing {@link MongoBasketListener#onAfterConvert(AfterConvertEvent)}.
+     */
+    private void givenValidEvent() {
+        when(event.getDocument()).thenReturn(basketDocument);
+        when(event.getSource()).thenReturn(basket);
+        when(basket.getData()).thenReturn(basketData);
+        when(basketData.getItems()).thenReturn(items);
+    }
+
+}
@@ -0,0 +1,92 @@
+package uk.gov.companieshouse.orders.api.listener;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.orders.api.model.ItemOptions;
+import uk.gov.companieshouse.orders.api.model.ItemType;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.stream;
+
+/**
+ * Compares reading the item options of a certificate through {@link OrderItemOptionsReader} with rendering them as
+ * JSON and parsing that, as the reader used to. Run with <code>make benchmark benchmarks=OrderItemOptionsReader</code>
+ * and compare the <code>gc.alloc.rate.norm</code> (bytes allocated per read) as well as the time per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemOptionsReaderBenchmark {
+
+    private static final String CERTIFICATE_KIND = "item#certificate";
+
+    private static final String CERTIFICATE_ITEM_OPTIONS = "{"
+            + "\"certificate_type\": \"incorporation-with-all-name-changes\","
+            + "\"collection_location\": \"cardiff\","
+            + "\"contact_number\": \"0123456789\","
+            + "\"delivery_method\": \"postal\","
+            + "\"delivery_timescale\": \"standard\","
+            + "\"director_details\": {\"include_address\": true, \"include_appointment_date\": false,"
+            + " \"include_basic_information\": true, \"include_country_of_residence\": false,"
+            + " \"include_dob_type\": \"partial\", \"include_nationality\": false, \"include_occupation\": true},"
+            + "\"forename\": \"John\","
+            + "\"include_company_objects_information\": true,"
+            + "\"include_email_copy\": false,"
+            + "\"include_good_standing_information\": true,"
+            + "\"registered_office_address_details\": {\"include_address_records_type\": \"current-and-previous\","
+            + " \"include_dates\": true},"
+            + "\"secretary_details\": {\"include_address\": false, \"include_appointment_date\": true,"
+            + " \"include_basic_information\": true},"
+            + "\"surname\": \"Smith\""
+            + "}";
+
+    private ObjectMapper mapper;
+    private OrderItemOptionsReader reader;
+    private Document optionsDocument;
+
+    @Setup
+    public void setUp() {
+        // As configured by ApplicationConfig
+        mapper = new ObjectMapper()
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+                .findAndRegisterModules();
+        reader = new OrderItemOptionsReader(mapper);
+        optionsDocument = Document.parse(CERTIFICATE_ITEM_OPTIONS);
+    }
+
+    @Benchmark
+    public ItemOptions directConversion() {
+        return reader.readItemOptions(optionsDocument, CERTIFICATE_KIND);
+    }
+
+    @Benchmark
+    public ItemOptions jsonRoundTrip() throws IOException {
+        final ItemType type = stream(ItemType.values())
+                .filter(value -> value.getKind().equals(CERTIFICATE_KIND))
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+        return mapper.readValue(optionsDocument.toJson(), type.getOptionsType());
+    }
+}
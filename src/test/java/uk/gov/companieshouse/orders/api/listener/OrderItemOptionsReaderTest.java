@@ -14,14 +14,13 @@ import uk.gov.companieshouse.orders.api.model.CertifiedCopyItemOptions;
 import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.MissingImageDeliveryItemOptions;
 
-import java.io.IOException;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,7 +81,7 @@ class OrderItemOptionsReaderTest {
 
     @Test
     @DisplayName("readOrderItemsOptions() updates certificate item options correctly")
-    void readOrderItemsOptionsUpdatesCertificateItemOptionsCorrectly() throws IOException {
+    void readOrderItemsOptionsUpdatesCertificateItemOptionsCorrectly() {
 
         // Given
         when(items.size()).thenReturn(1);
@@ -92,9 +91,8 @@ class OrderItemOptionsReaderTest {
         when(orderDataDocument.get("items", List.class)).thenReturn(itemDocuments);
         when(itemDocuments.get(0)).thenReturn(itemDocument);
         when(itemDocument.get("item_options", Document.class)).thenReturn(optionsDocument);
-        when(optionsDocument.toJson()).thenReturn("{}");
         when(certificateItem.getKind()).thenReturn(CERTIFICATE_KIND);
-        when(mapper.readValue("{}", CertificateItemOptions.class)).thenReturn(certificateItemOptions);
+        when(mapper.convertValue(optionsDocument, CertificateItemOptions.class)).thenReturn(certificateItemOptions);
 
         // When
         readerUnderTest.readOrderItemsOptions(items, orderDocument, UNUSED_ORDER_TYPE_NAME);
@@ -102,13 +100,13 @@ class OrderItemOptionsReaderTest {
         // Then
         verify(items).get(0);
         verify(certificateItem).getKind();
-        verify(mapper).readValue("{}", CertificateItemOptions.class);
+        verify(mapper).convertValue(optionsDocument, CertificateItemOptions.class);
         verify(certificateItem).setItemOptions(certificateItemOptions);
     }
 
     @Test
     @DisplayName("readOrderItemsOptions() updates certified copy item options correctly")
-    void readOrderItemsOptionsUpdatesCertifiedCopyItemOptionsCorrectly() throws IOException {
+    void readOrderItemsOptionsUpdatesCertifiedCopyItemOptionsCorrectly() {
 
         // Given
         when(items.size()).thenReturn(1);
@@ -118,9 +116,8 @@ class OrderItemOptionsReaderTest {
         when(orderDataDocument.get("items", List.class)).thenReturn(itemDocuments);
         when(itemDocuments.get(0)).thenReturn(itemDocument);
         when(itemDocument.get("item_options", Document.class)).thenReturn(optionsDocument);
-        when(optionsDocument.toJson()).thenReturn("{}");
         when(certifiedCopyItem.getKind()).thenReturn(CERTIFIED_COPY_KIND);
-        when(mapper.readValue("{}", CertifiedCopyItemOptions.class)).thenReturn(certifiedCopyItemOptions);
+        when(mapper.convertValue(optionsDocument, CertifiedCopyItemOptions.class)).thenReturn(certifiedCopyItemOptions);
 
         // When
         readerUnderTest.readOrderItemsOptions(items, orderDocument, UNUSED_ORDER_TYPE_NAME);
@@ -128,13 +125,13 @@ class OrderItemOptionsReaderTest {
         // Then
         verify(items).get(0);
         verify(certifiedCopyItem).getKind();
-        verify(mapper).readValue("{}", CertifiedCopyItemOptions.class);
+        verify(mapper).convertValue(optionsDocument, CertifiedCopyItemOptions.class);
         verify(certifiedCopyItem).setItemOptions(certifiedCopyItemOptions);
     }
 
     @Test
     @DisplayName("readOrderItemsOptions() updates missing image delivery item options correctly")
-    void readOrderItemsOptionsUpdatesMissingImageDeliveryItemOptionsCorrectly() throws IOException {
+    void readOrderItemsOptionsUpdatesMissingImageDeliveryItemOptionsCorrectly() {
 
         // Given
         when(items.size()).thenReturn(1);
@@ -144,9 +141,8 @@ class OrderItemOptionsReaderTest {
         when(orderDataDocument.get("items", List.class)).thenReturn(itemDocuments);
         when(itemDocuments.get(0)).thenReturn(itemDocument);
         when(itemDocument.get("item_options", Document.class)).thenReturn(optionsDocument);
-        when(optionsDocument.toJson()).thenReturn("{}");
         when(missingImageDeliveryItem.getKind()).thenReturn(MISSING_IMAGE_DELIVERY_KIND);
-        when(mapper.readValue("{}", MissingImageDeliveryItemOptions.class)).thenReturn(missingImageDeliveryItemOptions);
+        when(mapper.convertValue(optionsDocument, MissingImageDeliveryItemOptions.class)).thenReturn(missingImageDeliveryItemOptions);
 
         // When
         readerUnderTest.readOrderItemsOptions(items, orderDocument, UNUSED_ORDER_TYPE_NAME);
@@ -154,13 +150,13 @@ class OrderItemOptionsReaderTest {
         // Then
         verify(items).get(0);
         verify(missingImageDeliveryItem).getKind();
-        verify(mapper).readValue("{}", MissingImageDeliveryItemOptions.class);
+        verify(mapper).convertValue(optionsDocument, MissingImageDeliveryItemOptions.class);
         verify(missingImageDeliveryItem).setItemOptions(missingImageDeliveryItemOptions);
     }
 
     @Test
     @DisplayName("readOrderItemsOptions() copes with missing item options")
-    void readOrderItemsOptionsCopesWithMissingItemOptions() throws IOException {
+    void readOrderItemsOptionsCopesWithMissingItemOptions() {
 
         // Given
         when(items.size()).thenReturn(1);
@@ -176,12 +172,12 @@ class OrderItemOptionsReaderTest {
 
         // Then
         verify(items).get(0);
-        verify(mapper, never()).readValue(anyString(), ArgumentMatchers.eq(CertificateItemOptions.class));
+        verify(mapper, never()).convertValue(any(), ArgumentMatchers.eq(CertificateItemOptions.class));
     }
 
     @Test
-    @DisplayName("readOrderItemsOptions() propagates mapper IOException as an IllegalStateException")
-    void readOrderItemsOptionsPropagatesMapperIOExceptionAsIllegalStateException() throws IOException {
+    @DisplayName("readOrderItemsOptions() propagates mapper IllegalArgumentException as an IllegalStateException")
+    void readOrderItemsOptionsPropagatesMapperIllegalArgumentExceptionAsIllegalStateException() {
 
         // Given
         when(items.size()).thenReturn(1);
@@ -191,20 +187,19 @@ class OrderItemOptionsReaderTest {
         when(orderDataDocument.get("items", List.class)).thenReturn(itemDocuments);
         when(itemDocuments.get(0)).thenReturn(itemDocument);
         when(itemDocument.get("item_options", Document.class)).thenReturn(optionsDocument);
-        when(optionsDocument.toJson()).thenReturn("{}");
         when(certificateItem.getKind()).thenReturn(CERTIFICATE_KIND);
-        when(mapper.readValue("{}", CertificateItemOptions.class)).thenThrow(new IOException("Test message"));
+        when(mapper.convertValue(optionsDocument, CertificateItemOptions.class)).thenThrow(new IllegalArgumentException("Test message"));
 
         // When and then
         final IllegalStateException exception =
                 assertThrows(IllegalStateException.class,
                         () -> readerUnderTest.readOrderItemsOptions(items, orderDocument, UNUSED_ORDER_TYPE_NAME));
-        assertThat(exception.getMessage(), is("Error parsing item options JSON: Test message"));
+        assertThat(exception.getMessage(), is("Error reading item options: Test message"));
 
         // Then
         verify(items).get(0);
         verify(certificateItem).getKind();
-        verify(mapper).readValue("{}", CertificateItemOptions.class);
+        verify(mapper).convertValue(optionsDocument, CertificateItemOptions.class);
         verify(certificateItem, never()).setItemOptions(certificateItemOptions);
 
     }
@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.orders.api.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the latencies and outcomes of the requests made to a single endpoint during a load test.
+ */
+class EndpointStatistics {
+
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int requests;
+    private int errors;
+
+    EndpointStatistics(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(final long latencyNanos, final boolean succeeded) {
+        if (requests == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[requests++] = latencyNanos;
+        if (!succeeded) {
+            errors++;
+        }
+    }
+
+    synchronized int getRequests() {
+        return requests;
+    }
+
+    synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Summarises the requests made to the endpoint as a single line of the load test report.
+     * @param elapsedNanos how long the load test ran for
+     * @return the summary
+     */
+    synchronized String summarise(final long elapsedNanos) {
+        final long[] sorted = Arrays.copyOf(latencies, requests);
+        Arrays.sort(sorted);
+        final double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f",
+                endpoint, requests, errors, requests / seconds,
+                millis(sorted, 50), millis(sorted, 95), millis(sorted, 99), millis(sorted, 100));
+    }
+
+    static String header() {
+        return String.format("%-36s %8s %7s %9s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+    }
+
+    private static double millis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile * sorted.length / 100) - 1;
+        return sorted[Math.max(rank, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
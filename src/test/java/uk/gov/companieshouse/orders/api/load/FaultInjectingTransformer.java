@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.orders.api.load;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * WireMock extension that turns a proportion of the responses of the stubs it is applied to into
+ * <code>500 Internal Server Error</code> responses, so that stand-in APIs can fail as often as the real ones might.
+ * The proportion is given by the {@link #ERROR_RATE} transformer parameter of each stub.
+ */
+class FaultInjectingTransformer extends ResponseDefinitionTransformer {
+
+    static final String NAME = "fault-injecting";
+    static final String ERROR_RATE = "errorRate";
+
+    @Override
+    public ResponseDefinition transform(final Request request,
+                                        final ResponseDefinition responseDefinition,
+                                        final FileSource files,
+                                        final Parameters parameters) {
+        final Object errorRate = parameters.get(ERROR_RATE);
+        if (errorRate == null || ThreadLocalRandom.current().nextDouble() >= ((Number) errorRate).doubleValue()) {
+            return responseDefinition;
+        }
+        return ResponseDefinitionBuilder.like(responseDefinition).but()
+                .withStatus(500)
+                .withBody("{\"errors\":[\"injected fault\"]}")
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package uk.gov.companieshouse.orders.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import uk.gov.companieshouse.api.util.security.Permission;
+import uk.gov.companieshouse.orders.api.dto.AddToBasketRequestDTO;
+import uk.gov.companieshouse.orders.api.dto.BasketPaymentRequestDTO;
+import uk.gov.companieshouse.orders.api.model.PaymentStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static uk.gov.companieshouse.api.util.security.EricConstants.ERIC_AUTHORISED_KEY_ROLES;
+import static uk.gov.companieshouse.api.util.security.EricConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS;
+import static uk.gov.companieshouse.api.util.security.SecurityConstants.INTERNAL_USER_ROLE;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_API_KEY_TYPE_VALUE;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_OAUTH2_TYPE_VALUE;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.TOKEN_PERMISSION_VALUE;
+
+/**
+ * Drives load through the orders API by having a number of virtual users each replay, for a fixed time, the journey
+ * a real user takes to buy a certificate: add it to the basket, view the basket, check out, have the payment
+ * confirmed by the payments service, and view the resulting order. A journey is abandoned at the first step to fail.
+ */
+class LoadDriver {
+
+    static final String ADD_ITEM = "POST /basket/items";
+    static final String GET_BASKET = "GET /basket";
+    static final String CHECKOUT_BASKET = "POST /basket/checkouts";
+    static final String PATCH_PAYMENT_DETAILS = "PATCH /basket/checkouts/{id}/payment";
+    static final String GET_ORDER = "GET /orders/{id}";
+
+    private static final String PAYMENTS_API_IDENTITY = "payments-api";
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointStatistics> statistics = new LinkedHashMap<>();
+    private final AtomicInteger journeysCompleted = new AtomicInteger();
+    private long elapsedNanos;
+
+    LoadDriver(final String baseUrl, final ObjectMapper objectMapper) {
+        this.webClient = WebClient.create(baseUrl);
+        this.objectMapper = objectMapper;
+        for (final String endpoint : new String[] {ADD_ITEM, GET_BASKET, CHECKOUT_BASKET, PATCH_PAYMENT_DETAILS, GET_ORDER}) {
+            statistics.put(endpoint, new EndpointStatistics(endpoint));
+        }
+    }
+
+    /**
+     * Runs the load test, returning once every virtual user has finished its last journey.
+     * @param users the number of virtual users replaying journeys concurrently
+     * @param duration how long the virtual users are to keep starting new journeys
+     */
+    void run(final int users, final Duration duration) throws InterruptedException {
+        final ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+        for (int user = 0; user < users; user++) {
+            final String userId = "load-user-" + user;
+            virtualUsers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    if (replayJourney(userId)) {
+                        journeysCompleted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        virtualUsers.shutdown();
+        virtualUsers.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    int getJourneysCompleted() {
+        return journeysCompleted.get();
+    }
+
+    EndpointStatistics getStatistics(final String endpoint) {
+        return statistics.get(endpoint);
+    }
+
+    /**
+     * Reports the throughput and latency percentiles of each endpoint.
+     * @return the report, one line per endpoint
+     */
+    String report() {
+        final StringBuilder report = new StringBuilder(EndpointStatistics.header()).append(System.lineSeparator());
+        for (final EndpointStatistics endpointStatistics : statistics.values()) {
+            report.append(endpointStatistics.summarise(elapsedNanos)).append(System.lineSeparator());
+        }
+        report.append("journeys completed: ").append(journeysCompleted.get());
+        return report.toString();
+    }
+
+    private boolean replayJourney(final String userId) {
+        // The same item each time, so that an abandoned journey does not leave the next with a bigger basket
+        final AddToBasketRequestDTO addToBasket = new AddToBasketRequestDTO();
+        addToBasket.setItemUri("/orderable/certificates/CRT-" + userId);
+        if (call(ADD_ITEM, HttpMethod.POST, "/basket/items", userHeaders(userId, Permission.Value.CREATE), addToBasket)
+                == null) {
+            return false;
+        }
+        if (call(GET_BASKET, HttpMethod.GET, "/basket", userHeaders(userId, Permission.Value.READ), null) == null) {
+            return false;
+        }
+        final JsonNode checkout = call(CHECKOUT_BASKET, HttpMethod.POST, "/basket/checkouts",
+                userHeaders(userId, Permission.Value.CREATE), null);
+        if (checkout == null) {
+            return false;
+        }
+        final String checkoutId = checkout.get("reference").asText();
+
+        final BasketPaymentRequestDTO payment = new BasketPaymentRequestDTO();
+        payment.setStatus(PaymentStatus.PAID);
+        payment.setPaymentReference(checkoutId);
+        payment.setPaidAt(LocalDateTime.now());
+        if (call(PATCH_PAYMENT_DETAILS, HttpMethod.PATCH, "/basket/checkouts/" + checkoutId + "/payment",
+                paymentsApiHeaders(), payment) == null) {
+            return false;
+        }
+        return call(GET_ORDER, HttpMethod.GET, "/orders/" + checkoutId, userHeaders(userId, Permission.Value.READ),
+                null) != null;
+    }
+
+    /**
+     * Makes a request, recording its latency and outcome against the endpoint.
+     * @return the response body, an empty node if there is none, or <code>null</code> should the request have failed
+     */
+    private JsonNode call(final String endpoint,
+                          final HttpMethod method,
+                          final String path,
+                          final HttpHeaders headers,
+                          final Object body) {
+        final long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            final WebClient.RequestBodySpec request = webClient.method(method).uri(path)
+                    .headers(requestHeaders -> requestHeaders.addAll(headers));
+            // Serialised here so that the request body is exactly as the orders API would itself render it
+            final ClientResponse response = (body == null ? request : request.syncBody(objectMapper.writeValueAsString(body)))
+                    .exchange().block(RESPONSE_TIMEOUT);
+            final String responseBody = response.bodyToMono(String.class).block(RESPONSE_TIMEOUT);
+            succeeded = response.statusCode().is2xxSuccessful();
+            if (!succeeded) {
+                return null;
+            }
+            return responseBody == null ? objectMapper.createObjectNode() : objectMapper.readTree(responseBody);
+        } catch (IOException | RuntimeException ex) {
+            succeeded = false;
+            return null;
+        } finally {
+            statistics.get(endpoint).record(System.nanoTime() - start, succeeded);
+        }
+    }
+
+    private static HttpHeaders userHeaders(final String userId, final Permission.Value permission) {
+        final HttpHeaders headers = commonHeaders();
+        headers.set(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_OAUTH2_TYPE_VALUE);
+        headers.set(ERIC_IDENTITY_HEADER_NAME, userId);
+        headers.set(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE);
+        headers.set(ERIC_AUTHORISED_TOKEN_PERMISSIONS, String.format(TOKEN_PERMISSION_VALUE, permission));
+        return headers;
+    }
+
+    private static HttpHeaders paymentsApiHeaders() {
+        final HttpHeaders headers = commonHeaders();
+        headers.set(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_API_KEY_TYPE_VALUE);
+        headers.set(ERIC_IDENTITY_HEADER_NAME, PAYMENTS_API_IDENTITY);
+        headers.set(ERIC_AUTHORISED_KEY_ROLES, INTERNAL_USER_ROLE);
+        return headers;
+    }
+
+    private static HttpHeaders commonHeaders() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(REQUEST_ID_HEADER_NAME, UUID.randomUUID().toString());
+        return headers;
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.companieshouse.orders.api.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static uk.gov.companieshouse.orders.api.logging.LoggingUtils.APPLICATION_NAMESPACE;
+
+/**
+ * Load tests the orders API against stand-ins for the items and payments APIs, reporting the throughput and latency
+ * percentiles of each endpoint the purchase journey uses.
+ * <p>
+ * Only run when the <code>load-test</code> system property is <code>true</code> (see <code>make test-load</code>).
+ * The load and the behaviour of the stand-ins are set by the following system properties:
+ * <ul>
+ *     <li><code>load-test.users</code> - the number of concurrent virtual users (default 20)</li>
+ *     <li><code>load-test.duration-seconds</code> - how long to apply the load for (default 60)</li>
+ *     <li><code>load-test.items.median-latency-millis</code>, <code>load-test.items.latency-sigma</code> and
+ *     <code>load-test.items.error-rate</code> - how the items API behaves (default 40, 0.5 and 0.01)</li>
+ *     <li><code>load-test.payments.median-latency-millis</code>, <code>load-test.payments.latency-sigma</code> and
+ *     <code>load-test.payments.error-rate</code> - how the payments API behaves (default 80, 0.5 and 0.01)</li>
+ * </ul>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EmbeddedKafka
+@DirtiesContext
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class OrdersApiLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private static final String CHS_API_KEY = "MGQ1MGNlYmFkYzkxZTM2MzlkNGVmMzg4ZjgxMmEz";
+
+    private final EnvironmentVariables variables = new EnvironmentVariables();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private StandInApis standInApis;
+
+    @BeforeEach
+    void startStandInApis() throws Exception {
+        final StandInApis.Behaviour items = behaviour("items", 40);
+        final StandInApis.Behaviour payments = behaviour("payments", 80);
+        standInApis = new StandInApis(objectMapper);
+        final String baseUrl = standInApis.start(items, payments);
+        variables.set("CHS_API_KEY", CHS_API_KEY);
+        variables.set("API_URL", baseUrl);
+        variables.set("PAYMENTS_API_URL", baseUrl);
+        LOGGER.info("Items API stand-in: " + items);
+        LOGGER.info("Payments API stand-in: " + payments);
+    }
+
+    @AfterEach
+    void stopStandInApis() {
+        standInApis.stop();
+    }
+
+    @Test
+    @DisplayName("Purchase journey holds up under load")
+    void purchaseJourneyHoldsUpUnderLoad() throws InterruptedException {
+
+        // Given
+        final int users = Integer.getInteger("load-test.users", 20);
+        final Duration duration = Duration.ofSeconds(Long.getLong("load-test.duration-seconds", 60));
+        final LoadDriver driver = new LoadDriver("http://localhost:" + port, objectMapper);
+
+        // When
+        driver.run(users, duration);
+
+        // Then
+        LOGGER.info("Load test report:\n" + driver.report());
+        assertThat(driver.getJourneysCompleted(), greaterThan(0));
+    }
+
+    private static StandInApis.Behaviour behaviour(final String api, final double defaultMedianLatencyMillis) {
+        final String prefix = "load-test." + api + ".";
+        return new StandInApis.Behaviour(
+                doubleProperty(prefix + "median-latency-millis", defaultMedianLatencyMillis),
+                doubleProperty(prefix + "latency-sigma", 0.5),
+                doubleProperty(prefix + "error-rate", 0.01));
+    }
+
+    private static double doubleProperty(final String name, final double defaultValue) {
+        final String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.companieshouse.orders.api.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.orders.api.model.Certificate;
+import uk.gov.companieshouse.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.orders.api.model.ItemCosts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.util.Collections.singletonList;
+import static uk.gov.companieshouse.orders.api.model.CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES;
+import static uk.gov.companieshouse.orders.api.model.ProductType.CERTIFICATE;
+
+/**
+ * WireMock stand-ins for the items and payments APIs the orders API calls, answering any certificate or payment
+ * session request after a randomly distributed delay, and failing a configurable proportion of them.
+ * <p>
+ * Every certificate costs {@link #ITEM_COST}, and every payment session is for that amount, paid, and for the
+ * checkout with the same ID as the payment session. A basket holding a single certificate can therefore always be
+ * paid for.
+ */
+class StandInApis {
+
+    static final String ITEM_COST = "15";
+
+    /**
+     * How a stand-in API behaves.
+     */
+    static final class Behaviour {
+        private final double medianLatencyMillis;
+        private final double latencySigma;
+        private final double errorRate;
+
+        /**
+         * @param medianLatencyMillis the median of the log-normally distributed delay before each response
+         * @param latencySigma the standard deviation of the log of the delay, governing how long the tail is
+         * @param errorRate the proportion of requests, between 0 and 1, to fail with a 500 response
+         */
+        Behaviour(final double medianLatencyMillis, final double latencySigma, final double errorRate) {
+            this.medianLatencyMillis = medianLatencyMillis;
+            this.latencySigma = latencySigma;
+            this.errorRate = errorRate;
+        }
+
+        @Override
+        public String toString() {
+            return "median latency " + medianLatencyMillis + "ms, sigma " + latencySigma + ", error rate " + errorRate;
+        }
+    }
+
+    private final WireMockServer server = new WireMockServer(options()
+            .dynamicPort()
+            .containerThreads(100)
+            .extensions(new ResponseTemplateTransformer(false), new FaultInjectingTransformer()));
+
+    private final ObjectMapper objectMapper;
+
+    StandInApis(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Starts the stand-ins.
+     * @param items how the items API is to behave
+     * @param payments how the payments API is to behave
+     * @return the base URL of both stand-ins
+     */
+    String start(final Behaviour items, final Behaviour payments) throws JsonProcessingException {
+        server.start();
+        server.stubFor(get(urlPathMatching("/orderable/certificates/.+"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(certificate()))
+                        .withLogNormalRandomDelay(items.medianLatencyMillis, items.latencySigma)
+                        .withTransformers(FaultInjectingTransformer.NAME)
+                        .withTransformerParameter(FaultInjectingTransformer.ERROR_RATE, items.errorRate)));
+        server.stubFor(get(urlPathMatching("/payments/.+"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(paymentSession()))
+                        .withLogNormalRandomDelay(payments.medianLatencyMillis, payments.latencySigma)
+                        .withTransformers("response-template", FaultInjectingTransformer.NAME)
+                        .withTransformerParameter(FaultInjectingTransformer.ERROR_RATE, payments.errorRate)));
+        return server.baseUrl();
+    }
+
+    void stop() {
+        server.stop();
+    }
+
+    private static Certificate certificate() {
+        final Certificate certificate = new Certificate();
+        certificate.setKind("item#certificate");
+        certificate.setCompanyNumber("00006400");
+        certificate.setCompanyName("LOAD TEST LIMITED");
+        certificate.setItemCosts(singletonList(new ItemCosts("0", ITEM_COST, ITEM_COST, CERTIFICATE)));
+        certificate.setPostageCost("0");
+        certificate.setTotalItemCost(ITEM_COST);
+        certificate.setPostalDelivery(false);
+        certificate.setQuantity(1);
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setCertificateType(INCORPORATION_WITH_ALL_NAME_CHANGES);
+        certificate.setItemOptions(options);
+        return certificate;
+    }
+
+    private static PaymentApi paymentSession() {
+        final Map<String, String> links = new HashMap<>();
+        // The payment session ID is the second segment of the request path
+        links.put("resource", "/basket/checkouts/{{request.path.[1]}}/payment");
+        final PaymentApi paymentSession = new PaymentApi();
+        paymentSession.setStatus("paid");
+        paymentSession.setAmount(ITEM_COST);
+        paymentSession.setLinks(links);
+        return paymentSession;
+    }
+}
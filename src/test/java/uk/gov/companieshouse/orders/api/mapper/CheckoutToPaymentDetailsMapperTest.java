@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.*;
@@ -187,6 +189,42 @@ class CheckoutToPaymentDetailsMapperTest {
         assertThat(target.getItems().get(2).getProductType(), is(source.getData().getItems().get(0).getItemCosts().get(2).getProductType().getJsonName()));
     }
 
+    @Test
+    void updateDTOWithPaymentDetailsCoversEveryItem() {
+        final Item copy = new Item();
+        copy.setKind("item#certified-copy");
+        copy.setDescription("certified copy for company 00006400");
+        copy.setItemCosts(singletonList(new ItemCosts("0", "30", "30", ProductType.CERTIFIED_COPY)));
+        final CheckoutData checkoutData = new CheckoutData();
+        checkoutData.setItems(asList(ITEM, copy));
+        final PaymentDetailsDTO target = new PaymentDetailsDTO();
+
+        checkoutToPaymentDetailsMapper.updateDTOWithPaymentDetails(checkoutData, target);
+
+        assertThat(target.getItems().size(), is(ITEM_COSTS_LIST.size() + 1));
+        assertThat(target.getItems().get(0).getResourceKind(), is(CERTIFICATE_KIND));
+        assertThat(target.getItems().get(3).getResourceKind(), is(copy.getKind()));
+        assertThat(target.getItems().get(3).getAmount(), is("30"));
+        assertThat(target.getItems().get(3).getDescription(), is(copy.getDescription()));
+        assertThat(target.getCompanyNumber(), is(COMPANY_NUMBER));
+    }
+
+    @Test
+    void updateDTOWithPaymentDetailsLeavesCompanyNumberUnsetForSeveralCompanies() {
+        final Item copy = new Item();
+        copy.setKind("item#certified-copy");
+        copy.setCompanyNumber("000000002");
+        copy.setItemCosts(singletonList(new ItemCosts("0", "30", "30", ProductType.CERTIFIED_COPY)));
+        final CheckoutData checkoutData = new CheckoutData();
+        checkoutData.setItems(asList(ITEM, copy));
+        final PaymentDetailsDTO target = new PaymentDetailsDTO();
+
+        checkoutToPaymentDetailsMapper.updateDTOWithPaymentDetails(checkoutData, target);
+
+        assertThat(target.getItems().size(), is(ITEM_COSTS_LIST.size() + 1));
+        assertNull(target.getCompanyNumber());
+    }
+
     private void testLinks(Checkout source, PaymentDetailsDTO target){
         assertThat(target.getLinks().getResource(), is(source.getData().getLinks().getSelf()));
         assertThat(target.getLinks().getSelf(), is(source.getData().getLinks().getPayment()));
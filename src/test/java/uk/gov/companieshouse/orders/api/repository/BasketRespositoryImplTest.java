@@ -1,23 +1,25 @@
 package uk.gov.companieshouse.orders.api.repository;
 
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import uk.gov.companieshouse.orders.api.model.Basket;
-import uk.gov.companieshouse.orders.api.model.BasketData;
-import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class BasketRespositoryImplTest {
@@ -28,23 +30,27 @@ public class BasketRespositoryImplTest {
     @Mock
     MongoTemplate mongoTemplate;
 
-    @Mock
-    Basket basket;
-
-    @Mock
-    BasketData basketData;
-
-    @Mock
-    DeliveryDetails deliveryDetails;
+    @Captor
+    ArgumentCaptor<Update> updateCaptor;
 
     @Test
     public void clearBasketDataByIdVerifyFindAndModifyCalledOnce() {
-        when(mongoTemplate.findOne(any(), any())).thenReturn(basket);
-        when(basket.getData()).thenReturn(basketData);
-        when(basketData.getDeliveryDetails()).thenReturn(deliveryDetails);
         repositoryUnderTest.clearBasketDataById("ID");
-        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Basket.class));
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(Basket.class));
         verify(mongoTemplate, times(1)).findAndModify(any(Query.class), any(Update.class), eq(Basket.class));
     }
 
+    @Test
+    public void clearBasketDataByIdClearsItemsButNotDeliveryDetails() {
+        repositoryUnderTest.clearBasketDataById("ID");
+        verify(mongoTemplate).findAndModify(any(Query.class), updateCaptor.capture(), eq(Basket.class));
+        final Document update = updateCaptor.getValue().getUpdateObject();
+        final Document unset = (Document) update.get("$unset");
+        final Document set = (Document) update.get("$set");
+        assertThat(unset.containsKey("data.items"), is(true));
+        assertThat(unset.containsKey("data.delivery_details"), is(false));
+        assertThat(set.containsKey("updated_at"), is(true));
+        assertThat(set.keySet().stream().anyMatch(field -> field.startsWith("data")), is(false));
+    }
+
 }
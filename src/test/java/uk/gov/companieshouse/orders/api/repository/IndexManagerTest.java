@@ -0,0 +1,134 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests the {@link IndexManager} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class IndexManagerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations orderIndexes;
+
+    @Mock
+    private IndexOperations checkoutIndexes;
+
+    @Mock
+    private IndexOperations basketIndexes;
+
+    @Mock
+    private IndexOperations outboxIndexes;
+
+    @Captor
+    private ArgumentCaptor<IndexDefinition> checkoutIndexCaptor;
+
+    private IndexManager managerUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        managerUnderTest = new IndexManager(mongoTemplate, true);
+        when(mongoTemplate.indexOps(Order.class)).thenReturn(orderIndexes);
+        when(mongoTemplate.indexOps(Checkout.class)).thenReturn(checkoutIndexes);
+        when(mongoTemplate.indexOps(Basket.class)).thenReturn(basketIndexes);
+        when(mongoTemplate.indexOps(OutboxRecord.class)).thenReturn(outboxIndexes);
+        when(mongoTemplate.getCollectionName(any())).thenReturn("collection");
+    }
+
+    @Test
+    @DisplayName("manageIndexes creates every declared index in the background")
+    void manageIndexesCreatesDeclaredIndexes() {
+
+        // Given
+        givenIndexes(orderIndexes, "user_id,created_at,_id", "data.reference", "data.payment_reference", "created_at");
+        givenIndexes(checkoutIndexes,
+                "user_id", "data.reference", "data.payment_reference", "data.status", "created_at");
+        givenIndexes(basketIndexes, "created_at", "updated_at");
+        givenIndexes(outboxIndexes, "status,next_attempt_at", "status,created_at", "status,sent_at");
+
+        // When
+        final int missing = managerUnderTest.manageIndexes();
+
+        // Then
+        assertThat(missing, is(0));
+        verify(orderIndexes, times(4)).ensureIndex(any(IndexDefinition.class));
+        verify(basketIndexes, times(2)).ensureIndex(any(IndexDefinition.class));
+        verify(outboxIndexes, times(3)).ensureIndex(any(IndexDefinition.class));
+        verify(checkoutIndexes, times(5)).ensureIndex(checkoutIndexCaptor.capture());
+        final List<String> keys = new ArrayList<>();
+        for (final IndexDefinition index : checkoutIndexCaptor.getAllValues()) {
+            keys.addAll(index.getIndexKeys().keySet());
+            assertThat(index.getIndexOptions().getBoolean("background"), is(true));
+        }
+        assertThat(keys, hasItems("user_id", "data.reference", "data.payment_reference", "data.status", "created_at"));
+    }
+
+    @Test
+    @DisplayName("manageIndexes reports declared indexes that could not be created as missing")
+    void manageIndexesReportsMissingIndexes() {
+
+        // Given
+        doThrow(new IllegalStateException("index build failed")).when(checkoutIndexes).ensureIndex(any());
+        givenIndexes(orderIndexes, "user_id,created_at,_id", "data.reference", "data.payment_reference", "created_at");
+        givenIndexes(checkoutIndexes);
+        givenIndexes(basketIndexes, "created_at", "updated_at");
+        givenIndexes(outboxIndexes, "status,next_attempt_at", "status,created_at", "status,sent_at");
+
+        // When
+        final int missing = managerUnderTest.manageIndexes();
+
+        // Then
+        assertThat(missing, is(5));
+        verify(basketIndexes, times(2)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    /**
+     * Gives the collection the indexes provided, each of which is a comma separated list of the fields indexed.
+     */
+    private static void givenIndexes(final IndexOperations indexOperations, final String... indexedFields) {
+        final List<IndexInfo> indexes = Arrays.stream(indexedFields)
+                .map(fields -> new IndexInfo(Arrays.stream(fields.split(","))
+                        .map(field -> IndexField.create(field, Sort.Direction.ASC))
+                        .collect(Collectors.toList()),
+                        fields.replace(",", "_1_") + "_1", false, false, null))
+                .collect(Collectors.toList());
+        indexes.add(new IndexInfo(singletonList(IndexField.create("_id", Sort.Direction.ASC)),
+                "_id_", false, false, null));
+        when(indexOperations.getIndexInfo()).thenReturn(indexes);
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import com.mongodb.ReadPreference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests the {@link ReadPreferenceTemplates} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadPreferenceTemplatesTest {
+
+    private static final String ORDER_LOOKUP_PREFIX = "uk.gov.companieshouse.orders.api.read-preference.order-lookup";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoDbFactory factory;
+
+    @Test
+    @DisplayName("Reads from the primary where no read preference is configured")
+    void readsFromPrimaryByDefault() {
+
+        // Given
+        final MockEnvironment environment = new MockEnvironment();
+
+        // When
+        final ReadPreference readPreference =
+                ReadPreferenceTemplates.readPreference(environment, ReadOperation.ORDER_LOOKUP);
+
+        // Then
+        assertThat(readPreference, is(ReadPreference.primary()));
+    }
+
+    @Test
+    @DisplayName("Reads with the mode and maximum staleness configured for the operation")
+    void readsWithConfiguredModeAndMaxStaleness() {
+
+        // Given
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(ORDER_LOOKUP_PREFIX + ".mode", "secondaryPreferred")
+                .withProperty(ORDER_LOOKUP_PREFIX + ".max-staleness-seconds", "120");
+
+        // When
+        final ReadPreference readPreference =
+                ReadPreferenceTemplates.readPreference(environment, ReadOperation.ORDER_LOOKUP);
+
+        // Then
+        assertThat(readPreference, is(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    @DisplayName("Rejects a maximum staleness configured for reading from the primary")
+    void rejectsMaxStalenessForPrimary() {
+
+        // Given
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(ORDER_LOOKUP_PREFIX + ".mode", "primary")
+                .withProperty(ORDER_LOOKUP_PREFIX + ".max-staleness-seconds", "120");
+
+        // When and then
+        assertThrows(IllegalArgumentException.class,
+                () -> ReadPreferenceTemplates.readPreference(environment, ReadOperation.ORDER_LOOKUP));
+    }
+
+    @Test
+    @DisplayName("Shares the application's template only between operations reading from the primary")
+    void sharesApplicationTemplateOnlyForPrimary() {
+
+        // Given
+        final StaticApplicationContext context = new StaticApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty(ORDER_LOOKUP_PREFIX + ".mode", "nearest"));
+        context.refresh();
+        final MappingMongoConverter converter =
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+
+        // When
+        final ReadPreferenceTemplates templates =
+                new ReadPreferenceTemplates(mongoTemplate, factory, converter, context);
+
+        // Then
+        assertThat(templates.forOperation(ReadOperation.ORDER_LOOKUP), is(not(sameInstance(mongoTemplate))));
+        assertThat(templates.forOperation(ReadOperation.ORDER_HISTORY), is(sameInstance(mongoTemplate)));
+        assertThat(templates.forOperation(ReadOperation.PAYMENT_DETAILS_LOOKUP), is(sameInstance(mongoTemplate)));
+    }
+}
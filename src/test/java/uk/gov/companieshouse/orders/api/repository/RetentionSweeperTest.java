@@ -0,0 +1,163 @@
+package uk.gov.companieshouse.orders.api.repository;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.gov.companieshouse.orders.api.model.Basket;
+import uk.gov.companieshouse.orders.api.model.Checkout;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests the {@link RetentionSweeper} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class RetentionSweeperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> archive;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<ReplaceOneModel<Document>>> replacementsCaptor;
+
+    @Test
+    @DisplayName("Does nothing when retention is disabled")
+    void doesNothingWhenDisabled() {
+
+        // Given
+        final RetentionSweeper sweeper = new RetentionSweeper(mongoTemplate, false, false, false, 72, 90, 7, BATCH_SIZE);
+
+        // When
+        sweeper.onSchedule();
+
+        // Then
+        verifyZeroInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Sweeps only the sent outbox records when retention is disabled but their sweep is not")
+    void sweepsOnlyOutboxRecordsWhenRetentionDisabled() {
+
+        // Given
+        final RetentionSweeper sweeper = new RetentionSweeper(mongoTemplate, false, false, true, 72, 90, 7, BATCH_SIZE);
+        when(mongoTemplate.getCollectionName(OutboxRecord.class)).thenReturn("order_received_outbox");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("order_received_outbox")))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        sweeper.onSchedule();
+
+        // Then
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("order_received_outbox"));
+        assertThat(queryCaptor.getValue().getQueryObject().get("status"), is("sent"));
+        verify(mongoTemplate, never()).getCollectionName(Checkout.class);
+        verify(mongoTemplate, never()).getCollectionName(Basket.class);
+    }
+
+    @Test
+    @DisplayName("Deletes expired pending checkouts in batches until none are left")
+    void deletesPendingCheckoutsInBatches() {
+
+        // Given
+        final RetentionSweeper sweeper = new RetentionSweeper(mongoTemplate, true, false, true, 72, 90, 7, BATCH_SIZE);
+        when(mongoTemplate.getCollectionName(Checkout.class)).thenReturn("checkout");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("checkout")))
+                .thenReturn(Arrays.asList(new Document("_id", "ORD-1"), new Document("_id", "ORD-2")))
+                .thenReturn(Collections.singletonList(new Document("_id", "ORD-3")));
+        when(mongoTemplate.remove(any(Query.class), eq("checkout")))
+                .thenReturn(DeleteResult.acknowledged(2))
+                .thenReturn(DeleteResult.acknowledged(1));
+
+        // When
+        final int deleted = sweeper.sweepPendingCheckouts();
+
+        // Then
+        assertThat(deleted, is(3));
+        verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(Document.class), eq("checkout"));
+        final Query query = queryCaptor.getValue();
+        assertThat(query.getQueryObject().get("data.status"), is("pending"));
+        assertThat(query.getQueryObject(), hasKey("created_at"));
+        assertThat(query.getFieldsObject(), hasKey("_id"));
+        verify(mongoTemplate, never()).getCollection(any());
+    }
+
+    @Test
+    @DisplayName("Only deletes those idle baskets that are still idle")
+    void deletesOnlyBasketsStillIdle() {
+
+        // Given
+        final RetentionSweeper sweeper = new RetentionSweeper(mongoTemplate, true, false, true, 72, 90, 7, BATCH_SIZE);
+        when(mongoTemplate.getCollectionName(Basket.class)).thenReturn("basket");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("basket")))
+                .thenReturn(Collections.singletonList(new Document("_id", "user-1")));
+        when(mongoTemplate.remove(any(Query.class), eq("basket"))).thenReturn(DeleteResult.acknowledged(0));
+
+        // When
+        final int deleted = sweeper.sweepIdleBaskets();
+
+        // Then
+        assertThat(deleted, is(0));
+        verify(mongoTemplate).remove(queryCaptor.capture(), eq("basket"));
+        final Document removal = queryCaptor.getValue().getQueryObject();
+        assertThat(removal, hasKey("_id"));
+        assertThat(removal, hasKey("updated_at"));
+    }
+
+    @Test
+    @DisplayName("Archives expired documents in full before deleting them when archiving is enabled")
+    void archivesBeforeDeleting() {
+
+        // Given
+        final RetentionSweeper sweeper = new RetentionSweeper(mongoTemplate, true, true, true, 72, 90, 7, BATCH_SIZE);
+        when(mongoTemplate.getCollectionName(Basket.class)).thenReturn("basket");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("basket")))
+                .thenReturn(Collections.singletonList(new Document("_id", "user-1").append("data", new Document())));
+        when(mongoTemplate.getCollection("basket" + RetentionSweeper.ARCHIVE_SUFFIX)).thenReturn(archive);
+        when(mongoTemplate.remove(any(Query.class), eq("basket"))).thenReturn(DeleteResult.acknowledged(1));
+
+        // When
+        final int deleted = sweeper.sweepIdleBaskets();
+
+        // Then
+        assertThat(deleted, is(1));
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Document.class), eq("basket"));
+        assertThat(queryCaptor.getValue().getFieldsObject().isEmpty(), is(true));
+        verify(archive).bulkWrite(replacementsCaptor.capture());
+        final ReplaceOneModel<Document> replacement = replacementsCaptor.getValue().get(0);
+        assertThat(replacement.getReplacement(), hasKey("data"));
+        assertThat(replacement.getReplacement(), hasKey("archived_at"));
+        assertThat(replacement.getReplaceOptions().isUpsert(), is(true));
+    }
+}
@@ -1,11 +1,15 @@
 package uk.gov.companieshouse.orders.api.service;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
@@ -19,18 +23,29 @@ import uk.gov.companieshouse.api.model.order.item.CertificateApi;
 import uk.gov.companieshouse.api.model.order.item.CertifiedCopyApi;
 import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.orders.api.client.Api;
+import uk.gov.companieshouse.orders.api.client.ApiConnections;
+import uk.gov.companieshouse.orders.api.client.Downstream;
+import uk.gov.companieshouse.orders.api.client.DownstreamGuard;
+import uk.gov.companieshouse.orders.api.client.HedgingPolicy;
 import uk.gov.companieshouse.orders.api.exception.ServiceException;
 import uk.gov.companieshouse.orders.api.mapper.ApiToItemMapper;
 import uk.gov.companieshouse.orders.api.model.*;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
 
 import static java.util.Collections.singletonList;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.orders.api.model.CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES;
 import static uk.gov.companieshouse.orders.api.util.TestConstants.*;
@@ -44,6 +59,7 @@ public class ApiClientServiceTest {
     private static final String INVALID_CERTIFICATE_URI = "/test/test/CHS00001";
     private static final String COMPANY_NUMBER = "00006400";
     private static final String PASS_THROUGH_HEADER = "passThroughHeader";
+    private static final String ETAG = "etag";
 
     @InjectMocks
     private ApiClientService serviceUnderTest;
@@ -51,6 +67,9 @@ public class ApiClientServiceTest {
     @Mock
     private ApiToItemMapper apiToItemMapper;
 
+    @Mock
+    private ItemCache itemCache;
+
     @Mock
     private InternalApiClient mockInternalApiClient;
 
@@ -60,6 +79,15 @@ public class ApiClientServiceTest {
     @Mock
     private Api api;
 
+    @Mock
+    private ApiConnections connections;
+
+    @Mock
+    private DownstreamGuard downstreamGuard;
+
+    @Mock
+    private HedgingPolicy hedgingPolicy;
+
     @Mock
     private PrivateItemResourceHandler privateItemResourceHandler;
 
@@ -78,6 +106,11 @@ public class ApiClientServiceTest {
     @Mock
     private ApiResponse<CertifiedCopyApi> certifiedCopyApiResponse;
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     public void shouldGetCertificateItemIfUriIsValid() throws Exception {
         when(api.getInternalApiClient(PASS_THROUGH_HEADER)).thenReturn(mockInternalApiClient);
@@ -96,6 +129,70 @@ public class ApiClientServiceTest {
         assertEquals(ItemStatus.UNKNOWN, item.getStatus());
     }
 
+    @Test
+    @DisplayName("getItem() caches the item retrieved")
+    void getItemCachesItemRetrieved() throws Exception {
+
+        // Given
+        when(api.getInternalApiClient(PASS_THROUGH_HEADER)).thenReturn(mockInternalApiClient);
+        when(mockInternalApiClient.privateItemResourceHandler()).thenReturn(privateItemResourceHandler);
+        when(privateItemResourceHandler.getItem(VALID_CERTIFICATE_URI)).thenReturn(itemGet);
+        doReturn(certificateApiResponse).when(itemGet).execute();
+        final Certificate certificate = new Certificate();
+        certificate.setEtag(ETAG);
+        when(apiToItemMapper.apiToItem(certificateApiResponse.getData())).thenReturn(certificate);
+
+        // When
+        serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI);
+
+        // Then
+        verify(itemCache).put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, certificateApiResponse.getData(), ETAG);
+        verify(hedgingPolicy).recordLatency(any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("getItem() serves a cached item without calling the items API")
+    void getItemServesCachedItem() throws Exception {
+
+        // Given
+        final CertificateApi cachedCertificate = new CertificateApi();
+        when(itemCache.get(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenReturn(Optional.of(cachedCertificate));
+        final Certificate certificate = new Certificate();
+        certificate.setCompanyNumber(COMPANY_NUMBER);
+        when(apiToItemMapper.apiToItem(cachedCertificate)).thenReturn(certificate);
+
+        // When
+        final Item item = serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI);
+
+        // Then
+        assertEquals(COMPANY_NUMBER, item.getCompanyNumber());
+        assertEquals(VALID_CERTIFICATE_URI, item.getItemUri());
+        assertEquals(ItemStatus.UNKNOWN, item.getStatus());
+        verifyZeroInteractions(api, hedgingPolicy);
+    }
+
+    @Test
+    @DisplayName("getItem() retrieves an item only once per request")
+    void getItemRetrievesItemOncePerRequest() throws Exception {
+
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(api.getInternalApiClient(PASS_THROUGH_HEADER)).thenReturn(mockInternalApiClient);
+        when(mockInternalApiClient.privateItemResourceHandler()).thenReturn(privateItemResourceHandler);
+        when(privateItemResourceHandler.getItem(VALID_CERTIFICATE_URI)).thenReturn(itemGet);
+        doReturn(certificateApiResponse).when(itemGet).execute();
+        final Certificate certificate = new Certificate();
+        when(apiToItemMapper.apiToItem(certificateApiResponse.getData())).thenReturn(certificate);
+
+        // When
+        final Item firstItem = serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI);
+        final Item secondItem = serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI);
+
+        // Then
+        assertThat(secondItem, is(firstItem));
+        verify(itemGet, times(1)).execute();
+    }
+
     @Test
     public void shouldGetCertificateItemOptions() throws Exception {
 
@@ -185,6 +282,8 @@ public class ApiClientServiceTest {
         when(paymentGet.execute()).thenThrow(URIValidationException.class);
 
         assertThrows(ServiceException.class, () -> serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID));
+        verify(connections).acquire();
+        verify(connections).release();
     }
 
     @Test
@@ -197,5 +296,7 @@ public class ApiClientServiceTest {
         when(paymentGet.execute()).thenThrow(ApiErrorResponseException.class);
 
         assertThrows(ServiceException.class, () -> serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID));
+        verify(downstreamGuard).enter(Downstream.PAYMENTS);
+        verify(downstreamGuard).exit(eq(Downstream.PAYMENTS), any(ApiErrorResponseException.class));
     }
 }
@@ -0,0 +1,220 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.orders.api.client.HedgingPolicy;
+import uk.gov.companieshouse.orders.api.exception.ServiceException;
+import uk.gov.companieshouse.orders.api.model.Certificate;
+import uk.gov.companieshouse.orders.api.model.CertifiedCopy;
+import uk.gov.companieshouse.orders.api.model.Item;
+import uk.gov.companieshouse.orders.api.model.MissingImageDelivery;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_CERTIFICATE_URI;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_CERTIFIED_COPY_URI;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_MISSING_IMAGE_DELIVERY_URI;
+
+/**
+ * Unit tests the {@link AsyncApiClientService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncApiClientServiceTest {
+
+    private static final String PASS_THROUGH_HEADER = "passThroughHeader";
+    private static final String PAYMENT_ID = "987654321";
+
+    @Mock
+    private ApiClientService apiClientService;
+
+    private MeterRegistry registry;
+    private AsyncApiClientService serviceUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        serviceUnderTest = new AsyncApiClientService(apiClientService, new HedgingPolicy(false, 95, 50, 10, 20, registry),
+                1, 1, 200, 200, 1, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceUnderTest.destroy();
+    }
+
+    @Test
+    @DisplayName("getItem() completes with the item retrieved")
+    void getItemCompletesWithItem() throws Exception {
+
+        // Given
+        final Certificate certificate = new Certificate();
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenReturn(certificate);
+
+        // When
+        final Item item = AsyncApiClientService.await(
+                serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI));
+
+        // Then
+        assertThat(item, is(certificate));
+    }
+
+    @Test
+    @DisplayName("getItem() hedges a slow request, and the hedge supplies the item")
+    void getItemHedgesSlowRequest() throws Exception {
+
+        // Given
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(true, 95, 10, 100, 20, registry);
+        for (int sample = 0; sample < 20; sample++) {
+            hedgingPolicy.recordLatency(Duration.ofMillis(1));
+        }
+        final AsyncApiClientService hedgingService =
+                new AsyncApiClientService(apiClientService, hedgingPolicy, 2, 2, 1000, 1000, 1, registry);
+        final Certificate certificate = new Certificate();
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenAnswer(invocation -> {
+            if (requests.getAndIncrement() == 0) {
+                release.await();
+            }
+            return certificate;
+        });
+
+        try {
+            // When
+            final Item item = AsyncApiClientService.await(
+                    hedgingService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI));
+
+            // Then
+            assertThat(item, is(certificate));
+            assertThat(requests.get(), is(2));
+            assertThat(registry.get("orders.api.client.hedging.hedges")
+                    .tag("outcome", "issued").counter().count(), is(1.0));
+            assertThat(registry.get("orders.api.client.hedging.hedges")
+                    .tag("outcome", "won").counter().count(), is(1.0));
+        } finally {
+            release.countDown();
+            hedgingService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("getItems() retrieves items in order without exceeding the calls that can be queued")
+    void getItemsRetrievesItemsWithBoundedParallelism() throws Exception {
+
+        // Given
+        final Certificate certificate = new Certificate();
+        final CertifiedCopy copy = new CertifiedCopy();
+        final MissingImageDelivery delivery = new MissingImageDelivery();
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenReturn(certificate);
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFIED_COPY_URI)).thenReturn(copy);
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_MISSING_IMAGE_DELIVERY_URI)).thenReturn(delivery);
+
+        // When
+        final List<Item> items = AsyncApiClientService.await(serviceUnderTest.getItems(PASS_THROUGH_HEADER,
+                asList(VALID_CERTIFICATE_URI, VALID_CERTIFIED_COPY_URI, VALID_MISSING_IMAGE_DELIVERY_URI)));
+
+        // Then
+        assertThat(items, contains(certificate, copy, delivery));
+        assertThat(registry.get("orders.api.client.executor.rejected").counter().count(), is(0.0));
+    }
+
+    @Test
+    @DisplayName("getItems() fails should any item not be retrieved")
+    void getItemsFailsIfAnyItemFails() throws Exception {
+
+        // Given
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenReturn(new Certificate());
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFIED_COPY_URI))
+                .thenThrow(new IOException("down"));
+
+        // When
+        final CompletableFuture<List<Item>> items = serviceUnderTest.getItems(PASS_THROUGH_HEADER,
+                asList(VALID_CERTIFICATE_URI, VALID_CERTIFIED_COPY_URI, VALID_MISSING_IMAGE_DELIVERY_URI));
+
+        // Then
+        final IOException exception = assertThrows(IOException.class, () -> AsyncApiClientService.await(items));
+        assertThat(exception.getMessage(), is("down"));
+    }
+
+    @Test
+    @DisplayName("await() rethrows the exception the remote call failed with")
+    void awaitRethrowsFailure() throws Exception {
+
+        // Given
+        when(apiClientService.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID)).thenThrow(new IOException("down"));
+
+        // When
+        final CompletableFuture<PaymentApi> payment = serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID);
+
+        // Then
+        final IOException exception = assertThrows(IOException.class, () -> AsyncApiClientService.await(payment));
+        assertThat(exception.getMessage(), is("down"));
+    }
+
+    @Test
+    @DisplayName("A call not completed within its deadline fails")
+    void callFailsAfterDeadline() throws Exception {
+
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+        when(apiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenAnswer(invocation -> {
+            release.await();
+            return new Certificate();
+        });
+
+        // When
+        final CompletableFuture<Item> item = serviceUnderTest.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI);
+
+        // Then
+        final ServiceException exception =
+                assertThrows(ServiceException.class, () -> AsyncApiClientService.await(item));
+        assertThat(exception.getMessage(), is("Timed out after 200ms retrieving item " + VALID_CERTIFICATE_URI));
+        assertThat(registry.get("orders.api.client.executor.timed.out").counter().count(), is(1.0));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("A call that cannot be queued fails immediately")
+    void callRejectedWhenSaturated() throws Exception {
+
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(apiClientService.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new PaymentApi();
+        });
+        serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID);
+        serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID);
+        started.await();
+
+        // When
+        final CompletableFuture<PaymentApi> payment = serviceUnderTest.getPaymentSummary(PASS_THROUGH_HEADER, PAYMENT_ID);
+
+        // Then
+        assertThat(payment.isCompletedExceptionally(), is(true));
+        assertThrows(ServiceException.class, () -> AsyncApiClientService.await(payment));
+        assertThat(registry.get("orders.api.client.executor.rejected").counter().count(), is(1.0));
+        release.countDown();
+    }
+}
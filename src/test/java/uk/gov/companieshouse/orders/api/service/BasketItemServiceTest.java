@@ -0,0 +1,165 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.orders.api.model.Certificate;
+import uk.gov.companieshouse.orders.api.model.Item;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_CERTIFICATE_URI;
+
+/**
+ * Unit tests the {@link BasketItemService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class BasketItemServiceTest {
+
+    private static final String BASKET_ID = "1234";
+    private static final String PASS_THROUGH_HEADER = "passThroughHeader";
+    private static final Duration FRESH_FOR = Duration.ofSeconds(60);
+    private static final Duration STALE_FOR = Duration.ofSeconds(600);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2020-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private AsyncApiClientService asyncApiClientService;
+
+    @Mock
+    private BasketService basketService;
+
+    private MeterRegistry registry;
+    private BasketItemService serviceUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        serviceUnderTest =
+                new BasketItemService(asyncApiClientService, basketService, FRESH_FOR, STALE_FOR, 2, registry,
+                        CLOCK);
+    }
+
+    @Test
+    @DisplayName("getItem() serves a fresh snapshot without calling the items API")
+    void getItemServesFreshSnapshot() throws Exception {
+
+        // Given
+        final Item basketItem = basketItem(NOW.minusSeconds(10));
+
+        // When
+        final Item item = serviceUnderTest.getItem(BASKET_ID, PASS_THROUGH_HEADER, basketItem).get();
+
+        // Then
+        assertThat(item, is(sameInstance(basketItem)));
+        verifyZeroInteractions(asyncApiClientService, basketService);
+        assertThat(snapshots("fresh"), is(1.0));
+    }
+
+    @Test
+    @DisplayName("getItem() serves a stale snapshot and refreshes it in the background")
+    void getItemServesStaleSnapshotAndRefreshesIt() throws Exception {
+
+        // Given
+        final Item basketItem = basketItem(NOW.minusSeconds(120));
+        final Certificate refreshed = new Certificate();
+        when(asyncApiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI))
+                .thenReturn(completedFuture(refreshed));
+
+        // When
+        final Item item = serviceUnderTest.getItem(BASKET_ID, PASS_THROUGH_HEADER, basketItem).get();
+
+        // Then
+        assertThat(item, is(sameInstance(basketItem)));
+        verify(basketService).saveItemSnapshot(BASKET_ID, refreshed);
+        assertThat(refreshed.getFetchedAt(), is(NOW));
+        assertThat(snapshots("stale"), is(1.0));
+    }
+
+    @Test
+    @DisplayName("getItem() retrieves and stores the item where the snapshot is too old to serve")
+    void getItemRetrievesExpiredItem() throws Exception {
+
+        // Given
+        final Item basketItem = basketItem(NOW.minus(FRESH_FOR).minus(STALE_FOR));
+        final Certificate retrieved = new Certificate();
+        when(asyncApiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI))
+                .thenReturn(completedFuture(retrieved));
+
+        // When
+        final Item item = serviceUnderTest.getItem(BASKET_ID, PASS_THROUGH_HEADER, basketItem).get();
+
+        // Then
+        assertThat(item, is(sameInstance(retrieved)));
+        verify(basketService).saveItemSnapshot(BASKET_ID, retrieved);
+        assertThat(snapshots("missing"), is(1.0));
+    }
+
+    @Test
+    @DisplayName("getItem() still serves the item retrieved should storing it fail")
+    void getItemToleratesFailureToStoreSnapshot() throws Exception {
+
+        // Given
+        final Item basketItem = basketItem(null);
+        final Certificate retrieved = new Certificate();
+        when(asyncApiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI))
+                .thenReturn(completedFuture(retrieved));
+        doThrow(new IllegalStateException("Mongo unavailable"))
+                .when(basketService).saveItemSnapshot(BASKET_ID, retrieved);
+
+        // When
+        final Item item = serviceUnderTest.getItem(BASKET_ID, PASS_THROUGH_HEADER, basketItem).get();
+
+        // Then
+        assertThat(item, is(sameInstance(retrieved)));
+    }
+
+    @Test
+    @DisplayName("getItem() does not store the snapshot should the item not be retrieved")
+    void getItemDoesNotStoreFailedRetrieval() {
+
+        // Given
+        final Item basketItem = basketItem(null);
+        final CompletableFuture<Item> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Items API unavailable"));
+        when(asyncApiClientService.getItem(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI)).thenReturn(failed);
+
+        // When
+        final CompletableFuture<Item> item = serviceUnderTest.getItem(BASKET_ID, PASS_THROUGH_HEADER, basketItem);
+
+        // Then
+        assertThat(item.isCompletedExceptionally(), is(true));
+        verify(basketService, never()).saveItemSnapshot(any(), any());
+    }
+
+    private static Item basketItem(final LocalDateTime fetchedAt) {
+        final Item item = new Item();
+        item.setItemUri(VALID_CERTIFICATE_URI);
+        item.setFetchedAt(fetchedAt);
+        return item;
+    }
+
+    private double snapshots(final String outcome) {
+        return registry.get("orders.api.basket.item.snapshots").tag("outcome", outcome).counter().count();
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.orders.api.exception.ConflictException;
 import uk.gov.companieshouse.orders.api.model.*;
 import uk.gov.companieshouse.orders.api.repository.CheckoutRepository;
 import uk.gov.companieshouse.orders.api.util.CheckoutHelper;
@@ -19,10 +20,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static uk.gov.companieshouse.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
@@ -33,6 +37,7 @@ public class CheckoutServiceTest {
 
     private static final String COMPANY_NUMBER = "00006400";
     private static final String ETAG = "etag";
+    private static final String PREVIOUS_ETAG = "previous etag";
     private static final String LINKS_SELF = "links/self";
     private static final String LINKS_PAYMENT = "links/payment";
     private static final String KIND = "order";
@@ -90,7 +95,7 @@ public class CheckoutServiceTest {
 
         timestamps.start();
 
-        serviceUnderTest.createCheckout(new Certificate(), ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(new Certificate()), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -105,7 +110,7 @@ public class CheckoutServiceTest {
         certificate.setCompanyNumber(COMPANY_NUMBER);
         when(checkoutRepository.save(any(Checkout.class))).thenReturn(new Checkout());
 
-        serviceUnderTest.createCheckout(certificate, ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(certificate), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -116,11 +121,26 @@ public class CheckoutServiceTest {
         assertEquals(KIND, checkout().getData().getKind());
     }
 
+    @Test
+    void createCheckoutPopulatesAndSavesAllItems() {
+        final Certificate certificate = new Certificate();
+        final CertifiedCopy copy = new CertifiedCopy();
+        when(checkoutRepository.save(any(Checkout.class))).thenReturn(new Checkout());
+
+        serviceUnderTest.createCheckout(asList(certificate, copy), ERIC_IDENTITY_VALUE,
+                ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
+        verify(checkoutRepository).save(checkoutCaptor.capture());
+
+        assertEquals(2, checkout().getData().getItems().size());
+        assertEquals(certificate, checkout().getData().getItems().get(0));
+        assertEquals(copy, checkout().getData().getItems().get(1));
+    }
+
     @Test
     void createCheckoutPopulatesAndSavesCheckedOutBy() {
         when(checkoutRepository.save(any(Checkout.class))).thenReturn(new Checkout());
 
-        serviceUnderTest.createCheckout(new Certificate(), ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(new Certificate()), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -142,7 +162,7 @@ public class CheckoutServiceTest {
         deliveryDetails.setRegion(REGION);
         deliveryDetails.setSurname(SURNAME);
 
-        serviceUnderTest.createCheckout(new Certificate(), ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(new Certificate()), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, deliveryDetails);
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -168,7 +188,7 @@ public class CheckoutServiceTest {
         when(etagGeneratorService.generateEtag()).thenReturn(ETAG);
         when(linksGeneratorService.generateCheckoutLinks(any(String.class))).thenReturn(checkoutLinks);
 
-        serviceUnderTest.createCheckout(new Certificate(), ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(new Certificate()), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -184,7 +204,7 @@ public class CheckoutServiceTest {
     void createCheckoutPopulatesTotalOrderCost() {
         Item certificateItem = createCertificateItem();
         doCallRealMethod().when(checkoutHelper).calculateTotalOrderCostForCheckout(any());
-        serviceUnderTest.createCheckout(certificateItem, ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(certificateItem), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
 
@@ -195,7 +215,7 @@ public class CheckoutServiceTest {
     @DisplayName("createCheckout populates `id` in the format ORD-######-######")
     void createCheckoutPopulatesIdCorrectly() {
         Item certificateItem = createCertificateItem();
-        serviceUnderTest.createCheckout(certificateItem, ERIC_IDENTITY_VALUE,
+        serviceUnderTest.createCheckout(singletonList(certificateItem), ERIC_IDENTITY_VALUE,
                 ERIC_AUTHORISED_USER_VALUE, new DeliveryDetails());
         verify(checkoutRepository).save(checkoutCaptor.capture());
         assertTrue(checkout().getId().matches("^ORD-\\d{6}-\\d{6}$")); ;
@@ -225,6 +245,48 @@ public class CheckoutServiceTest {
         timestamps.verifyUpdatedAtTimestampWithinExecutionInterval(checkout());
     }
 
+    @Test
+    @DisplayName("updatePaymentDetails updates checkout read with the current etag")
+    void updatePaymentDetailsUpdatesCheckoutWithCurrentEtag() {
+
+        // Given
+        final Checkout checkout = new Checkout();
+        checkout.setId("1");
+        checkout.getData().setEtag(PREVIOUS_ETAG);
+        checkout.getData().setStatus(PaymentStatus.PAID);
+        when(etagGeneratorService.generateEtag()).thenReturn(ETAG);
+        when(checkoutRepository.updatePaymentDetails(checkout, PREVIOUS_ETAG)).thenReturn(true);
+
+        timestamps.start();
+
+        // When
+        final Checkout updated = serviceUnderTest.updatePaymentDetails(checkout);
+
+        timestamps.end();
+
+        // Then
+        assertThat(updated.getData().getEtag(), is(ETAG));
+        timestamps.verifyUpdatedAtTimestampWithinExecutionInterval(updated);
+        verify(checkoutRepository, never()).save(any(Checkout.class));
+    }
+
+    @Test
+    @DisplayName("updatePaymentDetails reports a conflict if the checkout has been updated since it was read")
+    void updatePaymentDetailsReportsConflictOnStaleEtag() {
+
+        // Given
+        final Checkout checkout = new Checkout();
+        checkout.setId("1");
+        checkout.getData().setEtag(PREVIOUS_ETAG);
+        when(etagGeneratorService.generateEtag()).thenReturn(ETAG);
+        when(checkoutRepository.updatePaymentDetails(checkout, PREVIOUS_ETAG)).thenReturn(false);
+
+        // When and then
+        final ConflictException exception =
+                assertThrows(ConflictException.class, () -> serviceUnderTest.updatePaymentDetails(checkout));
+        assertThat(exception.getMessage(), is("Checkout 1 has been updated by another request."));
+    }
+
     /**
      * @return the captured {@link Checkout}.
      */
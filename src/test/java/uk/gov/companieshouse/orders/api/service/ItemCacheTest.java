@@ -0,0 +1,144 @@
+package uk.gov.companieshouse.orders.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.model.order.item.BaseItemApi;
+import uk.gov.companieshouse.api.model.order.item.CertificateApi;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_CERTIFICATE_URI;
+import static uk.gov.companieshouse.orders.api.util.TestConstants.VALID_CERTIFIED_COPY_URI;
+
+/**
+ * Unit tests the {@link ItemCache} class.
+ */
+class ItemCacheTest {
+
+    private static final String PASS_THROUGH_HEADER = "passThroughHeader";
+    private static final String OTHER_PASS_THROUGH_HEADER = "otherPassThroughHeader";
+    private static final String ETAG = "etag";
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    private MeterRegistry registry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+    }
+
+    @Test
+    @DisplayName("get() returns an item cached for the same caller")
+    void getReturnsCachedItem() {
+        final ItemCache cacheUnderTest = new ItemCache(true, 10, TIME_TO_LIVE, registry, clock);
+        final BaseItemApi item = new CertificateApi();
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, item, ETAG);
+
+        assertThat(cacheUnderTest.get(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI).get(), is(item));
+        assertThat(hits(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("get() does not return an item cached for a different caller")
+    void getDoesNotReturnItemCachedForDifferentCaller() {
+        final ItemCache cacheUnderTest = new ItemCache(true, 10, TIME_TO_LIVE, registry, clock);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+
+        assertThat(cacheUnderTest.get(OTHER_PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI).isPresent(), is(false));
+        assertThat(misses(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("get() does not return an expired item")
+    void getDoesNotReturnExpiredItem() {
+        final ItemCache cacheUnderTest = new ItemCache(true, 10, TIME_TO_LIVE, registry, clock);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+
+        clock.advance(TIME_TO_LIVE);
+
+        assertThat(cacheUnderTest.get(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI).isPresent(), is(false));
+        assertThat(misses(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("put() records whether a revalidated item has changed")
+    void putRecordsRevalidationOutcome() {
+        final ItemCache cacheUnderTest = new ItemCache(true, 10, TIME_TO_LIVE, registry, clock);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), "newEtag");
+
+        assertThat(registry.get("orders.api.item.cache.revalidations").tag("outcome", "unchanged")
+                .counter().count(), is(1.0));
+        assertThat(registry.get("orders.api.item.cache.revalidations").tag("outcome", "changed")
+                .counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("put() evicts the least recently used item once the maximum size is reached")
+    void putEvictsLeastRecentlyUsedItem() {
+        final ItemCache cacheUnderTest = new ItemCache(true, 1, TIME_TO_LIVE, registry, clock);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFIED_COPY_URI, new CertificateApi(), ETAG);
+
+        assertThat(cacheUnderTest.size(), is(1));
+        assertThat(cacheUnderTest.get(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI).isPresent(), is(false));
+        assertThat(cacheUnderTest.get(PASS_THROUGH_HEADER, VALID_CERTIFIED_COPY_URI).isPresent(), is(true));
+    }
+
+    @Test
+    @DisplayName("A disabled cache holds nothing")
+    void disabledCacheHoldsNothing() {
+        final ItemCache cacheUnderTest = new ItemCache(false, 10, TIME_TO_LIVE, registry, clock);
+        cacheUnderTest.put(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI, new CertificateApi(), ETAG);
+
+        assertThat(cacheUnderTest.get(PASS_THROUGH_HEADER, VALID_CERTIFICATE_URI).isPresent(), is(false));
+        assertThat(cacheUnderTest.size(), is(0));
+    }
+
+    private double hits() {
+        return registry.get("orders.api.item.cache.gets").tag("result", "hit").counter().count();
+    }
+
+    private double misses() {
+        return registry.get("orders.api.item.cache.gets").tag("result", "miss").counter().count();
+    }
+
+    /**
+     * {@link Clock} the tests can move forward in time.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2020-06-01T12:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
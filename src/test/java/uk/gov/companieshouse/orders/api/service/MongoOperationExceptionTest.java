@@ -11,12 +11,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import uk.gov.companieshouse.orders.api.controller.GlobalExceptionHandler;
 import uk.gov.companieshouse.orders.api.exception.MongoOperationException;
-import uk.gov.companieshouse.orders.api.kafka.OrderReceivedMessageProducer;
 import uk.gov.companieshouse.orders.api.mapper.CheckoutToOrderMapper;
 import uk.gov.companieshouse.orders.api.model.Checkout;
 import uk.gov.companieshouse.orders.api.model.Order;
 import uk.gov.companieshouse.orders.api.model.OrderData;
 import uk.gov.companieshouse.orders.api.repository.OrderRepository;
+import uk.gov.companieshouse.orders.api.repository.OutboxRepository;
 
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,7 +42,7 @@ public class MongoOperationExceptionTest {
     @Mock
     private OrderData orderData;
     @Mock
-    private OrderReceivedMessageProducer orderReceivedMessageProducer;
+    private OutboxRepository outboxRepository;
     @Mock
     private GlobalExceptionHandler exceptionHandlerMock;
 
@@ -54,7 +54,7 @@ public class MongoOperationExceptionTest {
         // and when mongo db save operation fails with DataAccessException
         Mockito.when(checkoutToOrderMapper.checkoutToOrder(checkout)).thenReturn(order);
         Mockito.when(order.getData()).thenReturn(orderData);
-        Mockito.doThrow(mongoException).when(orderRepository).save(order);
+        Mockito.doThrow(mongoException).when(orderRepository).insert(order);
 
         // then global exception handler handles the exception
         Assertions.assertThrows(MongoOperationException.class, () -> {
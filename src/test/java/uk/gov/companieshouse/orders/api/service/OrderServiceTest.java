@@ -2,17 +2,32 @@ package uk.gov.companieshouse.orders.api.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.companieshouse.orders.api.kafka.OrderReceivedMessageProducer;
+import org.springframework.dao.DuplicateKeyException;
+import uk.gov.companieshouse.orders.api.exception.ForbiddenException;
 import uk.gov.companieshouse.orders.api.mapper.CheckoutToOrderMapper;
 import uk.gov.companieshouse.orders.api.model.Checkout;
 import uk.gov.companieshouse.orders.api.model.Order;
+import uk.gov.companieshouse.orders.api.model.OutboxRecord;
+import uk.gov.companieshouse.orders.api.model.OutboxStatus;
 import uk.gov.companieshouse.orders.api.repository.OrderRepository;
+import uk.gov.companieshouse.orders.api.repository.OutboxRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,7 +56,10 @@ class OrderServiceTest {
     private LinksGeneratorService linksGeneratorService;
 
     @Mock
-    private OrderReceivedMessageProducer ordersMessageProducer;
+    private OutboxRepository outboxRepository;
+
+    @Captor
+    private ArgumentCaptor<OutboxRecord> outboxRecordCaptor;
 
     @Test
     void createOrderCreatesOrder() {
@@ -49,11 +67,80 @@ class OrderServiceTest {
         final Order order = new Order();
         order.setId(ORDER_ID);
         when(mapper.checkoutToOrder(checkout)).thenReturn(order);
-        when(repository.save(order)).thenReturn(order);
+        when(repository.insert(order)).thenReturn(order);
 
         // When and then
         assertThat(serviceUnderTest.createOrder(checkout), is(order));
         verify(linksGeneratorService, times(1)).generateOrderLinks(ORDER_ID);
+        verify(repository, never()).findById(ORDER_ID);
+        verify(outboxRepository, times(1)).insert(outboxRecordCaptor.capture());
+        final OutboxRecord record = outboxRecordCaptor.getValue();
+        assertThat(record.getId(), is(ORDER_ID));
+        assertThat(record.getStatus(), is(OutboxStatus.PENDING));
+        assertThat(record.getNextAttemptAt(), is(order.getCreatedAt()));
+    }
+
+    @Test
+    void createOrderLeavesNotificationAlreadyRecordedAsItIs() {
+        // Given
+        final Order order = new Order();
+        order.setId(ORDER_ID);
+        when(mapper.checkoutToOrder(checkout)).thenReturn(order);
+        when(outboxRepository.insert(any(OutboxRecord.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        when(repository.insert(order)).thenReturn(order);
+
+        // When and then
+        assertThat(serviceUnderTest.createOrder(checkout), is(order));
+        verify(outboxRepository, never()).deleteById(ORDER_ID);
+    }
+
+    @Test
+    void createOrderRejectsDuplicateOrder() {
+        // Given
+        final Order order = new Order();
+        order.setId(ORDER_ID);
+        when(mapper.checkoutToOrder(checkout)).thenReturn(order);
+        when(repository.insert(order)).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // When
+        final ForbiddenException exception =
+                assertThrows(ForbiddenException.class, () -> serviceUnderTest.createOrder(checkout));
+
+        // Then
+        assertThat(exception.getMessage(), is("Order ID " + ORDER_ID + " already exists. Will not update."));
+        verify(outboxRepository, never()).deleteById(ORDER_ID);
+    }
+
+    @Test
+    void createOrderKeepsNotificationOfConcurrentlyCreatedOrder() {
+        // Given an outbox and two creations of the same order, the second (A) running while the first (B) inserts it
+        final Order order = new Order();
+        order.setId(ORDER_ID);
+        when(mapper.checkoutToOrder(checkout)).thenReturn(order);
+        final Map<String, OutboxRecord> outbox = new HashMap<>();
+        when(outboxRepository.insert(any(OutboxRecord.class))).thenAnswer(invocation -> {
+            final OutboxRecord record = invocation.getArgument(0);
+            if (outbox.putIfAbsent(record.getId(), record) != null) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            return record;
+        });
+        final List<Order> createdConcurrently = new ArrayList<>();
+        when(repository.insert(order))
+                .thenAnswer(invocation -> {
+                    // A records nothing, as B has already recorded the notification, but A's order is saved
+                    createdConcurrently.add(serviceUnderTest.createOrder(checkout));
+                    throw new DuplicateKeyException("E11000 duplicate key error");
+                })
+                .thenReturn(order);
+
+        // When
+        assertThrows(ForbiddenException.class, () -> serviceUnderTest.createOrder(checkout));
 
+        // Then the notification recorded by B remains for the order saved by A
+        assertThat(createdConcurrently, is(singletonList(order)));
+        assertThat(outbox.containsKey(ORDER_ID), is(true));
+        verify(outboxRepository, never()).deleteById(ORDER_ID);
     }
 }
@@ -13,12 +13,14 @@ import uk.gov.companieshouse.orders.api.model.Certificate;
 import uk.gov.companieshouse.orders.api.model.DeliveryDetails;
 import uk.gov.companieshouse.orders.api.model.Item;
 import uk.gov.companieshouse.orders.api.model.ItemCosts;
-import uk.gov.companieshouse.orders.api.service.ApiClientService;
+import uk.gov.companieshouse.orders.api.service.AsyncApiClientService;
 
 import java.util.Collections;
 import java.util.List;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.anyString;
@@ -29,6 +31,7 @@ import static uk.gov.companieshouse.orders.api.model.ProductType.CERTIFICATE_SAM
 @ExtendWith(MockitoExtension.class)
 public class CheckoutBasketValidatorTest {
     private static final String ITEM_URI = "/orderable/certificates/12345678";
+    private static final String SECOND_ITEM_URI = "/orderable/certificates/87654321";
     private static final String INVALID_ITEM_URI = "invalid_uri";
     private static final String COMPANY_NUMBER = "00000000";
     private static final String PASS_THROUGH_HEADER = "passThroughHeader";
@@ -44,7 +47,7 @@ public class CheckoutBasketValidatorTest {
     private DeliveryDetailsValidator deliveryDetailsValidator;
 
     @Mock
-    private ApiClientService apiClientService;
+    private AsyncApiClientService asyncApiClientService;
 
     @Test
     @DisplayName("getValidationErrors returns error for missing items")
@@ -84,7 +87,8 @@ public class CheckoutBasketValidatorTest {
         certificate.setPostageCost(POSTAGE_COST);
         certificate.setTotalItemCost(TOTAL_ITEM_COST);
         certificate.setPostalDelivery(true);
-        when(apiClientService.getItem(PASS_THROUGH_HEADER, ITEM_URI)).thenReturn(certificate);
+        when(asyncApiClientService.getItems(PASS_THROUGH_HEADER, singletonList(ITEM_URI)))
+                .thenReturn(completedFuture(singletonList(certificate)));
         List<String> errors = validatorUnderTest.getValidationErrors(PASS_THROUGH_HEADER, basket);
         // Then
         assertThat(errors.isEmpty(), is(false));
@@ -104,7 +108,8 @@ public class CheckoutBasketValidatorTest {
         certificate.setPostageCost(POSTAGE_COST);
         certificate.setTotalItemCost(TOTAL_ITEM_COST);
         certificate.setPostalDelivery(true);
-        when(apiClientService.getItem(PASS_THROUGH_HEADER, ITEM_URI)).thenReturn(certificate);
+        when(asyncApiClientService.getItems(PASS_THROUGH_HEADER, singletonList(ITEM_URI)))
+                .thenReturn(completedFuture(singletonList(certificate)));
         List<String> errors = validatorUnderTest.getValidationErrors(PASS_THROUGH_HEADER, basket);
         // Then
         assertThat(errors.isEmpty(), is(false));
@@ -112,6 +117,27 @@ public class CheckoutBasketValidatorTest {
         assertThat(errors.get(0), is(ErrorType.DELIVERY_DETAILS_MISSING.getValue()));
     }
 
+    @Test
+    @DisplayName("getValidationErrors returns error for missing delivery details where any item is for postal delivery")
+    public void getValidationErrorsReportsMissingDeliveryDetailsForAnyItem() throws Exception {
+        // Given
+        Basket basket = setupBasketWithMissingDeliveryDetails();
+        Item secondBasketItem = new Item();
+        secondBasketItem.setItemUri(SECOND_ITEM_URI);
+        basket.getData().setItems(asList(basket.getData().getItems().get(0), secondBasketItem));
+        // When
+        final Certificate collectedCertificate = new Certificate();
+        collectedCertificate.setPostalDelivery(false);
+        final Certificate postedCertificate = new Certificate();
+        postedCertificate.setPostalDelivery(true);
+        when(asyncApiClientService.getItems(PASS_THROUGH_HEADER, asList(ITEM_URI, SECOND_ITEM_URI)))
+                .thenReturn(completedFuture(asList(collectedCertificate, postedCertificate)));
+        List<String> errors = validatorUnderTest.getValidationErrors(PASS_THROUGH_HEADER, basket);
+        // Then
+        assertThat(errors.size(), is(1));
+        assertThat(errors.get(0), is(ErrorType.DELIVERY_DETAILS_MISSING.getValue()));
+    }
+
     private Basket setupBasketWithMissingItems(){
         Basket basket = new Basket();
         BasketData basketData = new BasketData();
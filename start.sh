@@ -27,4 +27,7 @@ else
     source "${APP_DIR}/app_env"
 fi
 
-exec java ${JAVA_MEM_ARGS} -jar -Dserver.port="${PORT}" "${APP_DIR}/orders.api.ch.gov.uk.jar"
+# The number of idle connections to each of the items and payments APIs kept alive for reuse
+HTTP_MAX_CONNECTIONS="${ORDERS_API_HTTP_MAX_CONNECTIONS:=20}"
+
+exec java ${JAVA_MEM_ARGS} -Dhttp.maxConnections="${HTTP_MAX_CONNECTIONS}" -jar -Dserver.port="${PORT}" "${APP_DIR}/orders.api.ch.gov.uk.jar"